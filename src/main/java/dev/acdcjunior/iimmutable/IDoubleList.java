@@ -0,0 +1,362 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IDoubleBinaryOperator;
+import dev.acdcjunior.iimmutable.fn.IDoubleFunction;
+import dev.acdcjunior.iimmutable.fn.IDoublePredicate;
+import dev.acdcjunior.iimmutable.fn.IDoubleUnaryOperator;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+
+/**
+ * An immutable list of {@code double}s, stored in a {@code double[]} without boxing.
+ *
+ * @since 1.0.0
+ */
+public final class IDoubleList {
+
+    private static final IDoubleList EMPTY_IDOUBLELIST = new IDoubleList(new double[0], 0, 0);
+
+    private final double[] elements;
+
+    private final int offset;
+
+    private final int size;
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static IDoubleList doubleListOf(double... elements) {
+        return ofTrustedArray(elements.clone(), elements.length);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static IDoubleList emptyDoubleList() {
+        return EMPTY_IDOUBLELIST;
+    }
+
+    /**
+     * Creates a list with the first {@code size} elements of {@code array}, which must not be changed afterwards.
+     */
+    @NotNull
+    static IDoubleList ofTrustedArray(@NotNull double[] array, int size) {
+        if (size == 0) {
+            return EMPTY_IDOUBLELIST;
+        }
+        return new IDoubleList(array, 0, size);
+    }
+
+    private IDoubleList(@NotNull double[] elements, int offset, int size) {
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean isNotEmpty() {
+        return size != 0;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public double get(int index) {
+        IList.rangeCheck(index, size, "Cannot `get(%d)`: ", index);
+
+        return elements[offset + index];
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IDoubleList map(@NotNull IDoubleUnaryOperator mapper) {
+        double[] rs = new double[size];
+        for (int i = 0; i < size; i++) {
+            rs[i] = mapper.applyAsDouble(elements[offset + i]);
+        }
+        return ofTrustedArray(rs, size);
+    }
+
+    /**
+     * Maps each element to an object, returning an {@link IList} with the results.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IList<R> mapToObj(@NotNull IDoubleFunction<? extends R> mapper) {
+        IList.Builder<R> rs = IList.builder(size);
+        for (int i = 0; i < size; i++) {
+            rs.add(mapper.apply(elements[offset + i]));
+        }
+        return rs.build();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IDoubleList filter(@NotNull IDoublePredicate predicate) {
+        double[] rs = new double[size];
+        int count = 0;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            double e = elements[i];
+            if (predicate.test(e)) {
+                rs[count++] = e;
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        return ofTrustedArray(rs, count);
+    }
+
+    /**
+     * Accumulates the elements from left to right, starting with the first one.
+     *
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with the accumulated value.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Double> reduce(@NotNull IDoubleBinaryOperator reducer) {
+        if (size == 0) {
+            return IOption.none();
+        }
+        return IOption.some(reduce(reducer, elements[offset], offset + 1));
+    }
+
+    /**
+     * Accumulates the elements from left to right, starting with {@code initialValue}.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public double reduce(@NotNull IDoubleBinaryOperator reducer, double initialValue) {
+        return reduce(reducer, initialValue, offset);
+    }
+
+    private double reduce(@NotNull IDoubleBinaryOperator reducer, double initialValue, int from) {
+        double accumulator = initialValue;
+        for (int i = from, end = offset + size; i < end; i++) {
+            accumulator = reducer.applyAsDouble(accumulator, elements[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Returns the sum of the elements.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public double sum() {
+        double sum = 0;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with its smallest element.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Double> min() {
+        if (size == 0) {
+            return IOption.none();
+        }
+        double min = elements[offset];
+        for (int i = offset + 1, end = offset + size; i < end; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return IOption.some(min);
+    }
+
+    /**
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with its largest element.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Double> max() {
+        if (size == 0) {
+            return IOption.none();
+        }
+        double max = elements[offset];
+        for (int i = offset + 1, end = offset + size; i < end; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return IOption.some(max);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean contains(double e) {
+        return indexOf(e) != -1;
+    }
+
+    /**
+     * @return The index of the first element equal to the argument, or -1 if no elements are equal to it. Elements
+     *  are compared like {@link Double#equals(Object)} does, so {@code NaN} can be found and {@code 0.0} is not
+     *  equal to {@code -0.0}.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int indexOf(double e) {
+        long bits = Double.doubleToLongBits(e);
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(elements[offset + i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new list with the elements sorted in ascending order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IDoubleList sorted() {
+        double[] rs = toArray();
+        Arrays.sort(rs);
+        return ofTrustedArray(rs, size);
+    }
+
+    /**
+     * Creates a new list containing the elements of a range. This takes constant time: the new list shares the
+     * elements of this one.
+     *
+     * @param fromIndex starting endpoint (inclusive) of the subList
+     * @param toIndex ending endpoint (exclusive) of the subList
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IDoubleList subList(int fromIndex, int toIndex) {
+        IList.subListRangeCheck(fromIndex, toIndex, size);
+
+        if (fromIndex == toIndex) {
+            return EMPTY_IDOUBLELIST;
+        }
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+        return new IDoubleList(elements, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a new array containing the elements of the list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public double[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + size);
+    }
+
+    /**
+     * Returns an {@link IList} with the elements of this list, boxed.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IList<Double> boxed() {
+        IList.Builder<Double> rs = IList.builder(size);
+        for (int i = 0; i < size; i++) {
+            rs.add(elements[offset + i]);
+        }
+        return rs.build();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IDoubleList that = (IDoubleList) o;
+        if (size != that.size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(elements[offset + i]) != Double.doubleToLongBits(that.elements[that.offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the same hash code as {@link #boxed()}.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            long bits = Double.doubleToLongBits(elements[i]);
+            hashCode = 31 * hashCode + (int) (bits ^ (bits >>> 32));
+        }
+        return hashCode;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
@@ -2,6 +2,8 @@ package dev.acdcjunior.iimmutable;
 
 import dev.acdcjunior.iimmutable.fn.IConsumer;
 import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import dev.acdcjunior.iimmutable.tuple.IPair;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +39,44 @@ public abstract class IEither<L, R> implements Iterable<R> {
         return new Right<L, R>(right);
     }
 
+    /**
+     * Calls {@code supplier}, returning its result in an {@link IEither.Right}, or the exception it throws in an
+     * {@link IEither.Left}. Throw an {@link IFailure} for expected failures to make them as cheap as successes.
+     *
+     * @throws IllegalArgumentException if {@code supplier} returns {@code null}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <R> IEither<RuntimeException, R> catching(@NotNull ISupplier<? extends R> supplier) {
+        R value;
+        try {
+            value = supplier.get();
+        } catch (RuntimeException e) {
+            return left(e);
+        }
+        return right(value);
+    }
+
+    /**
+     * Applies {@code fn} to {@code input}, returning its result in an {@link IEither.Right}, or the exception it
+     * throws in an {@link IEither.Left}. Unlike {@link #catching(ISupplier)}, doesn't need a new function per input.
+     *
+     * @throws IllegalArgumentException if {@code fn} returns {@code null}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T, R> IEither<RuntimeException, R> catching(@NotNull IFunction<? super T, ? extends R> fn, T input) {
+        R value;
+        try {
+            value = fn.apply(input);
+        } catch (RuntimeException e) {
+            return left(e);
+        }
+        return right(value);
+    }
+
     /**
      * @since 1.0.0
      */
@@ -146,10 +186,18 @@ public abstract class IEither<L, R> implements Iterable<R> {
      * @since 1.0.0
      */
     @NotNull
-    @SuppressWarnings("ConstantConditions")
     public <T> T fold(@NotNull IFunction<? super L, T> foldLeft, @NotNull IFunction<? super R, T> foldRight) {
-        if (isLeft()) return mapLeft(foldLeft).left();
-        return map(foldRight).right();
+        T result = isLeft() ? foldLeft.apply(left()) : foldRight.apply(right());
+        return checkFoldResult(result);
+    }
+
+    @NotNull
+    @SuppressWarnings("ConstantConditions")
+    private static <T> T checkFoldResult(@Nullable T result) {
+        if (result == null) {
+            throw new IllegalArgumentException("Result of IEither#fold cannot be null");
+        }
+        return result;
     }
 
     /**
@@ -165,12 +213,10 @@ public abstract class IEither<L, R> implements Iterable<R> {
      * @since 1.0.0
      */
     public R getOrHandle(IFunction<L, R> handleLeft) {
-        return fold(handleLeft, new IFunction<R, R>() {
-            @Override
-            public R apply(R input) {
-                return input;
-            }
-        });
+        if (isLeft()) {
+            return checkFoldResult(handleLeft.apply(left()));
+        }
+        return right();
     }
 
     /**
@@ -182,25 +228,147 @@ public abstract class IEither<L, R> implements Iterable<R> {
      */
     @Contract(pure = true)
     public IEither<R, L> swap() {
-        return fold(new IFunction<L, IEither<R, L>>() {
-            @Override
-            public IEither<R, L> apply(L input) {
-                return IEither.right(input);
-            }
-        }, new IFunction<R, IEither<R, L>>() {
+        if (isLeft()) {
+            return IEither.right(left());
+        }
+        return IEither.left(right());
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public void accept(@NotNull IConsumer<? super L> ifLeft, @NotNull IConsumer<? super R> ifRight) {
+        if (isLeft()) {
+            ifLeft.accept(left());
+        } else {
+            ifRight.accept(right());
+        }
+    }
+
+    /**
+     * Stack-safe {@link #flatMap(IFunction)}: returns a computation that, when run, is this {@link IEither.Left} or
+     * the computation {@code mapper} returns for the value of this {@link IEither.Right}. {@code mapper} is only
+     * called when the computation is run.
+     *
+     * @see IEval
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public <R2> IEval<IEither<L, R2>> flatMapEval(@NotNull final IFunction<? super R, ? extends IEval<IEither<L, R2>>> mapper) {
+        if (isLeft()) {
+            return IEval.now((IEither<L, R2>) this);
+        }
+        final R value = right();
+        return IEval.defer(new ISupplier<IEval<IEither<L, R2>>>() {
             @Override
-            public IEither<R, L> apply(R input) {
-                return IEither.left(input);
+            public IEval<IEither<L, R2>> get() {
+                return mapper.apply(value);
             }
         });
     }
 
     /**
+     * Turns a list of eithers into an either of a list: the first {@link IEither.Left} in {@code eithers}, if there is
+     * one (the elements after it are not looked at), or an {@link IEither.Right} of the values of all of them.
+     *
      * @since 1.0.0
      */
-    public void accept(@NotNull IConsumer<? super L> ifLeft, @NotNull IConsumer<? super R> ifRight) {
-        ifLeft(ifLeft);
-        ifRight(ifRight);
+    @NotNull
+    @Contract(pure = true)
+    public static <L, R> IEither<L, IList<R>> sequence(@NotNull IList<? extends IEither<? extends L, ? extends R>> eithers) {
+        IList.Builder<R> values = IList.builder(eithers.size());
+        for (IEither<? extends L, ? extends R> either : eithers) {
+            if (either.isLeft()) {
+                return IEither.<L, R>leftOfList(either);
+            }
+            values.add(either.right());
+        }
+        return right(values.build());
+    }
+
+    /**
+     * Applies {@code fn} to each element of {@code ls}, in order, stopping at the first {@link IEither.Left} it
+     * returns. If there is none, returns an {@link IEither.Right} of all the values {@code fn} returned.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T, L, R> IEither<L, IList<R>> traverse(@NotNull IList<T> ls, @NotNull IFunction<? super T, ? extends IEither<? extends L, ? extends R>> fn) {
+        IList.Builder<R> values = IList.builder(ls.size());
+        for (T t : ls) {
+            IEither<? extends L, ? extends R> either = fn.apply(t);
+            if (either.isLeft()) {
+                return IEither.<L, R>leftOfList(either);
+            }
+            values.add(either.right());
+        }
+        return right(values.build());
+    }
+
+    /**
+     * Splits {@code eithers}, in a single pass, into the values of its {@link IEither.Left}s and of its
+     * {@link IEither.Right}s, both in their original order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <L, R> IPair<IList<L>, IList<R>> partition(@NotNull IList<? extends IEither<? extends L, ? extends R>> eithers) {
+        IList.Builder<L> lefts = IList.builder();
+        IList.Builder<R> rights = IList.builder();
+        for (IEither<? extends L, ? extends R> either : eithers) {
+            if (either.isLeft()) {
+                lefts.add(either.left());
+            } else {
+                rights.add(either.right());
+            }
+        }
+        return IPair.pairOf(lefts.build(), rights.build());
+    }
+
+    /**
+     * Returns the values of the {@link IEither.Left}s in {@code eithers}, in order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <L> IList<L> lefts(@NotNull IList<? extends IEither<? extends L, ?>> eithers) {
+        IList.Builder<L> lefts = IList.builder();
+        for (IEither<? extends L, ?> either : eithers) {
+            if (either.isLeft()) {
+                lefts.add(either.left());
+            }
+        }
+        return lefts.build();
+    }
+
+    /**
+     * Returns the values of the {@link IEither.Right}s in {@code eithers}, in order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <R> IList<R> rights(@NotNull IList<? extends IEither<?, ? extends R>> eithers) {
+        IList.Builder<R> rights = IList.builder();
+        for (IEither<?, ? extends R> either : eithers) {
+            if (either.isRight()) {
+                rights.add(either.right());
+            }
+        }
+        return rights.build();
+    }
+
+    /**
+     * Returns {@code left} itself: a {@link IEither.Left} holds no right value, so it can stand for any right type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <L, R> IEither<L, IList<R>> leftOfList(@NotNull IEither<? extends L, ?> left) {
+        return (IEither<L, IList<R>>) left;
     }
 
     /**
@@ -341,8 +509,13 @@ public abstract class IEither<L, R> implements Iterable<R> {
          */
         @NotNull
         @Override
+        @SuppressWarnings("unchecked")
         public <L2> IEither<L2, R> mapLeft(@NotNull IFunction<? super L, L2> mapper) {
-            return new Left<L2, R>(mapper.apply(getValue()));
+            L2 mapped = mapper.apply(value);
+            if (mapped == value) {
+                return (IEither<L2, R>) this;
+            }
+            return new Left<L2, R>(mapped);
         }
 
         /**
@@ -485,8 +658,13 @@ public abstract class IEither<L, R> implements Iterable<R> {
          */
         @NotNull
         @Override
+        @SuppressWarnings("unchecked")
         public <R2> IEither<L, R2> map(@NotNull IFunction<? super R, R2> mapper) {
-            return new Right<L, R2>(mapper.apply(getValue()));
+            R2 mapped = mapper.apply(value);
+            if (mapped == value) {
+                return (IEither<L, R2>) this;
+            }
+            return new Right<L, R2>(mapped);
         }
 
         /**
@@ -0,0 +1,179 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+
+/**
+ * A computation of a value, described by {@link #now(Object)}, {@link #later(ISupplier)}, {@link #defer(ISupplier)},
+ * {@link #map(IFunction)} and {@link #flatMap(IFunction)}, and only run by {@link #value()}.
+ *
+ * <p>{@link #value()} runs the computation in a loop, keeping pending {@code flatMap} functions in an array instead
+ * of in nested calls. This makes it stack-safe: recursive functions that return {@code IEval}s (wrapping their
+ * recursive calls in {@link #defer(ISupplier)}) and {@code flatMap} chains of any depth run without growing the call
+ * stack.</p>
+ *
+ * <p>See {@link IEither#flatMapEval(IFunction)} and {@link IOption#flatMapEval(IFunction)} to chain these with
+ * {@link IEither} and {@link IOption}.</p>
+ *
+ * @param <T> The type of the value.
+ *
+ * @since 1.0.0
+ */
+public abstract class IEval<T> {
+
+    private static final int INITIAL_STACK_CAPACITY = 16;
+
+    private IEval() {
+    }
+
+    /**
+     * An already computed value.
+     */
+    private static final class Now<T> extends IEval<T> {
+        private final T value;
+
+        Now(T value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A value computed the first time it is needed, and kept.
+     */
+    private static final class Later<T> extends IEval<T> {
+        private ISupplier<? extends T> supplier;
+        private T value;
+
+        Later(@NotNull ISupplier<? extends T> supplier) {
+            this.supplier = supplier;
+        }
+
+        synchronized T get() {
+            if (supplier != null) {
+                value = supplier.get();
+                supplier = null;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A computation that is only created when it has to be run.
+     */
+    private static final class Defer<T> extends IEval<T> {
+        private final ISupplier<? extends IEval<? extends T>> thunk;
+
+        Defer(@NotNull ISupplier<? extends IEval<? extends T>> thunk) {
+            this.thunk = thunk;
+        }
+    }
+
+    private static final class FlatMap<S, T> extends IEval<T> {
+        private final IEval<S> source;
+        private final IFunction<? super S, ? extends IEval<? extends T>> fn;
+
+        FlatMap(@NotNull IEval<S> source, @NotNull IFunction<? super S, ? extends IEval<? extends T>> fn) {
+            this.source = source;
+            this.fn = fn;
+        }
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IEval<T> now(@Nullable T value) {
+        return new Now<T>(value);
+    }
+
+    /**
+     * Returns a computation of the value {@code supplier} returns. It is called at most once, the first time the
+     * value is needed.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IEval<T> later(@NotNull ISupplier<? extends T> supplier) {
+        return new Later<T>(supplier);
+    }
+
+    /**
+     * Returns a computation that only calls {@code thunk} to create the actual computation when it is run. Wrap
+     * recursive calls in this to make them stack-safe.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IEval<T> defer(@NotNull ISupplier<? extends IEval<? extends T>> thunk) {
+        return new Defer<T>(thunk);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IEval<R> flatMap(@NotNull IFunction<? super T, ? extends IEval<? extends R>> fn) {
+        return new FlatMap<T, R>(this, fn);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IEval<R> map(@NotNull final IFunction<? super T, ? extends R> mapper) {
+        return flatMap(new IFunction<T, IEval<R>>() {
+            @Override
+            public IEval<R> apply(T t) {
+                return now(mapper.apply(t));
+            }
+        });
+    }
+
+    /**
+     * Runs the computation, in constant stack space.
+     *
+     * @since 1.0.0
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public final T value() {
+        IEval<?> current = this;
+        IFunction<Object, IEval<?>>[] continuations = null;
+        int depth = 0;
+        for (;;) {
+            if (current instanceof FlatMap) {
+                FlatMap<?, ?> flatMap = (FlatMap<?, ?>) current;
+                if (continuations == null) {
+                    continuations = new IFunction[INITIAL_STACK_CAPACITY];
+                } else if (depth == continuations.length) {
+                    continuations = Arrays.copyOf(continuations, depth << 1);
+                }
+                continuations[depth++] = (IFunction<Object, IEval<?>>) flatMap.fn;
+                current = flatMap.source;
+            } else if (current instanceof Defer) {
+                current = ((Defer<?>) current).thunk.get();
+                Check.notNull(current, "The supplier passed to IEval#defer returned null");
+            } else {
+                Object value = current instanceof Now ? ((Now<?>) current).value : ((Later<?>) current).get();
+                if (depth == 0) {
+                    return (T) value;
+                }
+                IFunction<Object, IEval<?>> next = continuations[--depth];
+                continuations[depth] = null;
+                current = next.apply(value);
+                Check.notNull(current, "The function passed to IEval#flatMap returned null");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package dev.acdcjunior.iimmutable;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A cheap exception, meant to be thrown and caught (e.g. by {@link IEither#catching(dev.acdcjunior.iimmutable.fn.ISupplier)})
+ * as an expected failure, such as invalid input, rather than a bug.
+ *
+ * <p>Unless asked otherwise, it doesn't fill in its stack trace, which is what makes creating an exception expensive.
+ * {@link #getStackTrace()} returns an empty array for these.</p>
+ *
+ * @since 1.0.0
+ */
+public class IFailure extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean withStackTrace;
+
+    /**
+     * Creates a failure without stack trace.
+     *
+     * @since 1.0.0
+     */
+    public IFailure(@NotNull String message) {
+        this(message, null, false);
+    }
+
+    /**
+     * Creates a failure without stack trace.
+     *
+     * @since 1.0.0
+     */
+    public IFailure(@NotNull String message, @Nullable Throwable cause) {
+        this(message, cause, false);
+    }
+
+    /**
+     * @param withStackTrace If {@code false}, the stack trace is not filled in.
+     *
+     * @since 1.0.0
+     */
+    public IFailure(@NotNull String message, @Nullable Throwable cause, boolean withStackTrace) {
+        super(message, cause);
+        this.withStackTrace = withStackTrace;
+        if (withStackTrace) {
+            // the constructor of Throwable called fillInStackTrace() before this field was set
+            super.fillInStackTrace();
+        }
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public boolean hasStackTrace() {
+        return withStackTrace;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return withStackTrace ? super.fillInStackTrace() : this;
+    }
+
+}
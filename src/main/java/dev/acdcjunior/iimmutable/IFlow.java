@@ -0,0 +1,888 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.ICommand;
+import dev.acdcjunior.iimmutable.fn.IConsumer;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IPredicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A publisher of elements that only sends as many of them as its subscribers ask for.
+ *
+ * <p>A {@link Subscriber} gets a {@link Subscription} in {@link Subscriber#onSubscribe(Subscription)} and asks for
+ * elements with {@link Subscription#request(long)}. Each stage ({@link #map(IFunction)}, {@link #filter(IPredicate)},
+ * {@link #flatMap(IFunction)}, {@link #buffer(int)}, ...) passes that demand upstream, so a slow subscriber slows down
+ * the source instead of having elements pile up in memory. {@link #observeOn(Executor, int)} hands elements over to
+ * another thread through a buffer that never holds more than its given size.</p>
+ *
+ * <p>Signals to a subscriber are never sent concurrently: {@code onSubscribe}, then any number of {@code onNext},
+ * then at most one of {@code onError} or {@code onComplete}. Whatever a function given to a stage throws, errors
+ * included, cancels the stage and is sent to {@code onError}, as {@link IFuture} fails with it.</p>
+ *
+ * @param <T> The type of the elements of the flow.
+ *
+ * @since 1.0.0
+ */
+public abstract class IFlow<T> {
+
+    /**
+     * Stands for {@code null} elements in buffers, where {@code null} means "empty".
+     */
+    private static final Object NULL = new Object();
+
+    private static final Subscription NOOP_SUBSCRIPTION = new Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    /**
+     * Receives the elements of an {@link IFlow}.
+     *
+     * @since 1.0.0
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Called once, before any other method. No elements are sent until they are requested through
+         * {@code subscription}.
+         *
+         * @since 1.0.0
+         */
+        void onSubscribe(@NotNull Subscription subscription);
+
+        /**
+         * @since 1.0.0
+         */
+        void onNext(T t);
+
+        /**
+         * @since 1.0.0
+         */
+        void onError(@NotNull Throwable error);
+
+        /**
+         * @since 1.0.0
+         */
+        void onComplete();
+
+    }
+
+    /**
+     * The link between an {@link IFlow} and one of its {@link Subscriber}s.
+     *
+     * @since 1.0.0
+     */
+    public interface Subscription {
+
+        /**
+         * Asks for {@code n} more elements. Demand adds up, and {@link Long#MAX_VALUE} means "no limit".
+         *
+         * @throws IllegalArgumentException if {@code n} is not positive.
+         *
+         * @since 1.0.0
+         */
+        void request(long n);
+
+        /**
+         * Asks for no more elements to be sent. Some may still arrive if they were already on their way.
+         *
+         * @since 1.0.0
+         */
+        void cancel();
+
+    }
+
+    IFlow() {
+    }
+
+    /**
+     * Starts sending the elements of this flow to {@code subscriber}, as it requests them.
+     *
+     * @since 1.0.0
+     */
+    public abstract void subscribe(@NotNull Subscriber<? super T> subscriber);
+
+    /**
+     * Returns a flow of the elements of {@code iterable}, which are taken out of it only as they are requested.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IFlow<T> fromIterable(@NotNull final Iterable<? extends T> iterable) {
+        return new IFlow<T>() {
+            @Override
+            public void subscribe(@NotNull Subscriber<? super T> subscriber) {
+                Iterator<? extends T> iterator;
+                try {
+                    iterator = iterable.iterator();
+                } catch (Throwable e) {
+                    subscriber.onSubscribe(NOOP_SUBSCRIPTION);
+                    subscriber.onError(e);
+                    return;
+                }
+                subscriber.onSubscribe(new IteratorSubscription<T>(iterator, subscriber));
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IFlow<R> map(@NotNull final IFunction<? super T, ? extends R> mapper) {
+        return new IFlow<R>() {
+            @Override
+            public void subscribe(@NotNull Subscriber<? super R> subscriber) {
+                IFlow.this.subscribe(new Stage<T, R>(subscriber) {
+                    @Override
+                    public void onNext(T t) {
+                        if (done) {
+                            return;
+                        }
+                        R r;
+                        try {
+                            r = mapper.apply(t);
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                        downstream.onNext(r);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Elements that don't match {@code predicate} are replaced by a request for one more element, so the demand of
+     * the subscriber is still met.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IFlow<T> filter(@NotNull final IPredicate<? super T> predicate) {
+        return new IFlow<T>() {
+            @Override
+            public void subscribe(@NotNull Subscriber<? super T> subscriber) {
+                IFlow.this.subscribe(new Stage<T, T>(subscriber) {
+                    @Override
+                    public void onNext(T t) {
+                        if (done) {
+                            return;
+                        }
+                        boolean matches;
+                        try {
+                            matches = predicate.test(t);
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                        if (matches) {
+                            downstream.onNext(t);
+                        } else {
+                            upstream.request(1);
+                        }
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Sends, in order, the elements of the iterables {@code mapper} returns. Only one element of this flow is
+     * requested at a time, when the elements of the previous iterable have all been sent.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IFlow<R> flatMap(@NotNull final IFunction<? super T, ? extends Iterable<? extends R>> mapper) {
+        return new IFlow<R>() {
+            @Override
+            public void subscribe(@NotNull Subscriber<? super R> subscriber) {
+                IFlow.this.subscribe(new FlatMapStage<T, R>(subscriber, mapper));
+            }
+        };
+    }
+
+    /**
+     * Returns a flow of lists of {@code size} consecutive elements of this flow. The last list has fewer elements if
+     * there aren't enough to fill it. A request for {@code n} lists becomes a request for {@code n * size} elements.
+     *
+     * @throws IllegalArgumentException if {@code size} is not positive.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IFlow<IList<T>> buffer(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(String.format("Cannot `buffer(%d)`: size must be greater than zero", size));
+        }
+        return new IFlow<IList<T>>() {
+            @Override
+            public void subscribe(@NotNull Subscriber<? super IList<T>> subscriber) {
+                IFlow.this.subscribe(new Stage<T, IList<T>>(subscriber) {
+                    private IList.Builder<T> chunk = IList.builder();
+
+                    @Override
+                    public void request(long n) {
+                        checkDemand(n);
+                        upstream.request(n > Long.MAX_VALUE / size ? Long.MAX_VALUE : n * size);
+                    }
+
+                    @Override
+                    public void onNext(T t) {
+                        if (done) {
+                            return;
+                        }
+                        chunk.add(t);
+                        if (chunk.size() == size) {
+                            IList<T> full = chunk.build();
+                            chunk = IList.builder();
+                            downstream.onNext(full);
+                        }
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) {
+                            return;
+                        }
+                        if (chunk.size() > 0) {
+                            IList<T> partial = chunk.build();
+                            chunk = IList.builder();
+                            downstream.onNext(partial);
+                        }
+                        super.onComplete();
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a flow that sends its elements to the subscriber on {@code executor}. Elements wait in a buffer of at
+     * most {@code bufferSize} elements: that is all that is requested from this flow up front, and more are only
+     * requested as the subscriber takes them out.
+     *
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IFlow<T> observeOn(@NotNull final Executor executor, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException(String.format("Cannot `observeOn(executor, %d)`: buffer size must be greater than zero", bufferSize));
+        }
+        return new IFlow<T>() {
+            @Override
+            public void subscribe(@NotNull Subscriber<? super T> subscriber) {
+                IFlow.this.subscribe(new ObserveOnStage<T>(subscriber, executor, bufferSize));
+            }
+        };
+    }
+
+    /**
+     * Returns a flow that subscribes to this one on {@code executor}, so the source starts producing there.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IFlow<T> subscribeOn(@NotNull final Executor executor) {
+        return new IFlow<T>() {
+            @Override
+            public void subscribe(@NotNull final Subscriber<? super T> subscriber) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        IFlow.this.subscribe(subscriber);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Subscribes with the given callbacks, requesting {@code batchSize} elements at a time. An exception thrown by
+     * {@code onNext} cancels the subscription and is passed to {@code onError}.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive.
+     *
+     * @since 1.0.0
+     */
+    public void subscribe(@NotNull final IConsumer<? super T> onNext, @NotNull final IConsumer<? super Throwable> onError,
+                          @NotNull final ICommand onComplete, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(String.format("Cannot subscribe with batch size %d: it must be greater than zero", batchSize));
+        }
+        subscribe(new Subscriber<T>() {
+            private Subscription subscription;
+            private int received = 0;
+            private boolean done = false;
+
+            @Override
+            public void onSubscribe(@NotNull Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(batchSize);
+            }
+
+            @Override
+            public void onNext(T t) {
+                if (done) {
+                    return;
+                }
+                try {
+                    onNext.accept(t);
+                } catch (Throwable e) {
+                    subscription.cancel();
+                    onError(e);
+                    return;
+                }
+                if (++received == batchSize) {
+                    received = 0;
+                    subscription.request(batchSize);
+                }
+            }
+
+            @Override
+            public void onError(@NotNull Throwable error) {
+                if (!done) {
+                    done = true;
+                    onError.accept(error);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done) {
+                    done = true;
+                    onComplete.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Subscribes, requesting all elements, and waits for the flow to complete.
+     *
+     * @return The elements of the flow.
+     * @throws RuntimeException The error the flow ended with, wrapped if it was a checked exception.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public IList<T> blockingToIList() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final IList.Builder<T> builder = IList.builder();
+        final Throwable[] failure = { null };
+        subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(@NotNull Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T t) {
+                builder.add(t);
+            }
+
+            @Override
+            public void onError(@NotNull Throwable error) {
+                failure[0] = error;
+                latch.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                latch.countDown();
+            }
+        });
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the flow to complete", e);
+        }
+        Throwable error = failure[0];
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        if (error != null) {
+            throw new RuntimeException(error);
+        }
+        return builder.build();
+    }
+
+    private static void checkDemand(long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException(String.format("Cannot `request(%d)`: demand must be greater than zero", n));
+        }
+    }
+
+    /**
+     * Adds {@code n} to {@code requested}, stopping at {@link Long#MAX_VALUE}.
+     *
+     * @return The demand before the addition.
+     */
+    private static long addDemand(@NotNull AtomicLong requested, long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return current;
+            }
+            long updated = current + n;
+            if (updated < 0) {
+                updated = Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, updated)) {
+                return current;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unwrap(@NotNull Object o) {
+        return o == NULL ? null : (T) o;
+    }
+
+    /**
+     * Sends the elements of an iterator as they are requested. Whoever takes the demand up from zero sends elements
+     * until it is back to zero, so they are never sent concurrently.
+     */
+    private static final class IteratorSubscription<T> implements Subscription {
+
+        private final Iterator<? extends T> iterator;
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled = false;
+
+        IteratorSubscription(@NotNull Iterator<? extends T> iterator, @NotNull Subscriber<? super T> subscriber) {
+            this.iterator = iterator;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            checkDemand(n);
+            if (addDemand(requested, n) == 0) {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            long emitted = 0;
+            long demand = requested.get();
+            for (;;) {
+                while (emitted != demand) {
+                    if (cancelled) {
+                        return;
+                    }
+                    T t;
+                    try {
+                        if (!iterator.hasNext()) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        t = iterator.next();
+                    } catch (Throwable e) {
+                        cancelled = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+                    subscriber.onNext(t);
+                    emitted++;
+                }
+                if (cancelled) {
+                    return;
+                }
+                demand = requested.get();
+                if (demand == emitted) {
+                    demand = requested.addAndGet(-emitted);
+                    if (demand == 0) {
+                        return;
+                    }
+                    emitted = 0;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A stage that sends at most one element downstream for each element it gets, so it can pass demand and
+     * cancellation straight upstream.
+     */
+    private abstract static class Stage<T, R> implements Subscriber<T>, Subscription {
+
+        final Subscriber<? super R> downstream;
+        Subscription upstream;
+        boolean done = false;
+
+        Stage(@NotNull Subscriber<? super R> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(@NotNull Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onError(@NotNull Throwable error) {
+            if (!done) {
+                done = true;
+                downstream.onError(error);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+
+        final void fail(@NotNull Throwable error) {
+            upstream.cancel();
+            onError(error);
+        }
+
+    }
+
+    /**
+     * Keeps the iterator of the current element, and requests the next element only when it is exhausted and there
+     * is demand downstream. All signals go through {@link #drain()}, which only one thread runs at a time.
+     */
+    private static final class FlatMapStage<T, R> implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super R> downstream;
+        private final IFunction<? super T, ? extends Iterable<? extends R>> mapper;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Subscription upstream;
+        private volatile Object pending;
+        private Throwable error;
+        private volatile boolean done = false;
+        private volatile boolean cancelled = false;
+
+        /**
+         * Only touched by {@link #drain()}.
+         */
+        private Iterator<? extends R> current;
+        private boolean awaiting = false;
+
+        FlatMapStage(@NotNull Subscriber<? super R> downstream, @NotNull IFunction<? super T, ? extends Iterable<? extends R>> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(@NotNull Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T t) {
+            pending = t == null ? NULL : t;
+            drain();
+        }
+
+        @Override
+        public void onError(@NotNull Throwable error) {
+            this.error = error;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            checkDemand(n);
+            addDemand(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+        }
+
+        private void fail(@NotNull Throwable e) {
+            cancelled = true;
+            upstream.cancel();
+            downstream.onError(e);
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long demand = requested.get();
+                long emitted = 0;
+                for (;;) {
+                    if (cancelled) {
+                        return;
+                    }
+                    boolean d = done;
+                    if (d && error != null) {
+                        cancelled = true;
+                        downstream.onError(error);
+                        return;
+                    }
+                    if (current == null) {
+                        Object p = pending;
+                        if (p == null) {
+                            if (d) {
+                                cancelled = true;
+                                downstream.onComplete();
+                                return;
+                            }
+                            if (!awaiting && emitted != demand) {
+                                awaiting = true;
+                                upstream.request(1);
+                                continue;
+                            }
+                            break;
+                        }
+                        pending = null;
+                        awaiting = false;
+                        try {
+                            current = mapper.apply(IFlow.<T>unwrap(p)).iterator();
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                    }
+                    if (emitted == demand) {
+                        break;
+                    }
+                    R r;
+                    try {
+                        if (!current.hasNext()) {
+                            current = null;
+                            continue;
+                        }
+                        r = current.next();
+                    } catch (Throwable e) {
+                        fail(e);
+                        return;
+                    }
+                    downstream.onNext(r);
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Buffers elements in a bounded queue and sends them downstream from a task run on an executor. Requests more
+     * elements upstream after three quarters of the buffer have been taken out.
+     */
+    private static final class ObserveOnStage<T> implements Subscriber<T>, Subscription, Runnable {
+
+        private final Subscriber<? super T> downstream;
+        private final Executor executor;
+        private final int bufferSize;
+        private final int replenishThreshold;
+        private final ArrayBlockingQueue<Object> queue;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Subscription upstream;
+        private Throwable error;
+        private volatile boolean done = false;
+        private volatile boolean cancelled = false;
+
+        /**
+         * Only touched by {@link #run()}.
+         */
+        private int consumed = 0;
+
+        ObserveOnStage(@NotNull Subscriber<? super T> downstream, @NotNull Executor executor, int bufferSize) {
+            this.downstream = downstream;
+            this.executor = executor;
+            this.bufferSize = bufferSize;
+            this.replenishThreshold = Math.max(1, bufferSize - (bufferSize >> 2));
+            this.queue = new ArrayBlockingQueue<Object>(bufferSize);
+        }
+
+        @Override
+        public void onSubscribe(@NotNull Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(bufferSize);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            if (!queue.offer(t == null ? NULL : t)) {
+                upstream.cancel();
+                onError(new IllegalStateException(String.format("Buffer of %d elements is full: more elements were sent than requested", bufferSize)));
+                return;
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(@NotNull Throwable error) {
+            if (done) {
+                return;
+            }
+            this.error = error;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            checkDemand(n);
+            addDemand(requested, n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                if (wip.getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand) {
+                    boolean d = done;
+                    Object o = queue.poll();
+                    if (terminated(d, o == null)) {
+                        return;
+                    }
+                    if (o == null) {
+                        break;
+                    }
+                    downstream.onNext(IFlow.<T>unwrap(o));
+                    emitted++;
+                    if (++consumed == replenishThreshold) {
+                        consumed = 0;
+                        upstream.request(replenishThreshold);
+                    }
+                }
+                if (emitted == demand && terminated(done, queue.isEmpty())) {
+                    return;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Sends the final signal, if it is due. Errors are sent right away, completion once the buffer is empty.
+         */
+        private boolean terminated(boolean d, boolean empty) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (d && error != null) {
+                cancelled = true;
+                queue.clear();
+                downstream.onError(error);
+                return true;
+            }
+            if (d && empty) {
+                cancelled = true;
+                downstream.onComplete();
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+}
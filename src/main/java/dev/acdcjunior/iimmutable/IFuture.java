@@ -0,0 +1,505 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IConsumer;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import dev.acdcjunior.iimmutable.tuple.IPair;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * The result of an asynchronous computation, which will eventually either succeed with a value or fail with an
+ * exception.
+ *
+ * <p>Futures are composed with {@link #map(IFunction)}, {@link #flatMap(IFunction)}, {@link #zip(IFuture)},
+ * {@link #sequence(IList)}, ... without blocking any thread: each of these registers a callback and returns a new
+ * future right away. Callbacks run on the executor of the future they were registered on (see
+ * {@link #onExecutor(Executor)}); futures created by composition keep the executor of the one they came from.</p>
+ *
+ * <p>To complete a future yourself, use an {@link IPromise}.</p>
+ *
+ * @param <T> The type of the value of the future.
+ *
+ * @since 1.0.0
+ */
+public final class IFuture<T> {
+
+    /**
+     * Runs callbacks in the thread that completes the future (or that registers them, if it is already complete).
+     *
+     * <p>Callbacks submitted while another one is running in the same thread (e.g. each stage of a
+     * {@link #map(IFunction)} chain completing the next) are queued and run by the outermost call once the current one
+     * returns, instead of nested in it, so chains of any length run in constant stack space.</p>
+     */
+    static final Executor SAME_THREAD = new Executor() {
+        private final ThreadLocal<ArrayDeque<Runnable>> queues = new ThreadLocal<ArrayDeque<Runnable>>();
+
+        @Override
+        public void execute(@NotNull Runnable command) {
+            ArrayDeque<Runnable> queue = queues.get();
+            if (queue != null) {
+                queue.add(command);
+                return;
+            }
+            queue = new ArrayDeque<Runnable>();
+            queues.set(queue);
+            try {
+                for (Runnable next = command; next != null; next = queue.poll()) {
+                    next.run();
+                }
+            } finally {
+                queues.remove();
+            }
+        }
+    };
+
+    /**
+     * Receives the outcome of a future: {@code failure} is {@code null} if, and only if, it succeeded.
+     */
+    private interface Listener<T> {
+        void complete(@Nullable T value, @Nullable Throwable failure);
+    }
+
+    @NotNull
+    private final Executor executor;
+
+    private boolean done = false;
+    private T value;
+    private Throwable failure;
+
+    /**
+     * Listeners waiting for the future to complete, {@code null} once it is.
+     */
+    private List<Listener<? super T>> listeners = new ArrayList<Listener<? super T>>(2);
+
+    IFuture(@NotNull Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs {@code supplier} on {@code executor}. Callbacks of the returned future also run on {@code executor}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> IFuture<T> async(@NotNull final ISupplier<? extends T> supplier, @NotNull Executor executor) {
+        final IFuture<T> future = new IFuture<T>(executor);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                T value;
+                try {
+                    value = supplier.get();
+                } catch (Throwable e) {
+                    future.tryFail(e);
+                    return;
+                }
+                future.trySucceed(value);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns a future that already succeeded with {@code value}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IFuture<T> successful(@Nullable T value) {
+        IFuture<T> future = new IFuture<T>(SAME_THREAD);
+        future.trySucceed(value);
+        return future;
+    }
+
+    /**
+     * Returns a future that already failed with {@code failure}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IFuture<T> failed(@NotNull Throwable failure) {
+        IFuture<T> future = new IFuture<T>(SAME_THREAD);
+        future.tryFail(failure);
+        return future;
+    }
+
+    boolean trySucceed(@Nullable T value) {
+        return tryComplete(value, null);
+    }
+
+    boolean tryFail(@NotNull Throwable failure) {
+        Check.notNull(failure, "The failure of an IFuture cannot be null");
+        return tryComplete(null, failure);
+    }
+
+    private boolean tryComplete(@Nullable T value, @Nullable Throwable failure) {
+        List<Listener<? super T>> waiting;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            this.done = true;
+            this.value = value;
+            this.failure = failure;
+            waiting = listeners;
+            listeners = null;
+            notifyAll();
+        }
+        for (Listener<? super T> listener : waiting) {
+            dispatch(listener, value, failure);
+        }
+        return true;
+    }
+
+    private void listen(@NotNull Listener<? super T> listener) {
+        T value;
+        Throwable failure;
+        synchronized (this) {
+            if (!done) {
+                listeners.add(listener);
+                return;
+            }
+            value = this.value;
+            failure = this.failure;
+        }
+        dispatch(listener, value, failure);
+    }
+
+    /**
+     * Runs {@code listener} on the executor. Whatever it (or the executor) throws is reported to the uncaught exception
+     * handler of the current thread instead of propagating, so it can't keep other listeners from being notified or
+     * make whoever completed the future fail.
+     */
+    private <V> void dispatch(@NotNull final Listener<V> listener, final V value, final Throwable failure) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        listener.complete(value, failure);
+                    } catch (Throwable e) {
+                        reportUncaught(e);
+                    }
+                }
+            });
+        } catch (Throwable e) {
+            reportUncaught(e);
+        }
+    }
+
+    private static void reportUncaught(@NotNull Throwable e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Calls {@code onSuccess} or {@code onFailure}, on the executor of this future, once it completes.
+     *
+     * @since 1.0.0
+     */
+    public void onComplete(@NotNull final IConsumer<? super T> onSuccess, @NotNull final IConsumer<? super Throwable> onFailure) {
+        listen(new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                if (failure != null) {
+                    onFailure.accept(failure);
+                } else {
+                    onSuccess.accept(value);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns a future with the same outcome as this one, whose callbacks run on {@code executor}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public IFuture<T> onExecutor(@NotNull Executor executor) {
+        final IFuture<T> result = new IFuture<T>(executor);
+        listen(new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                result.tryComplete(value, failure);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a future of the result of applying {@code mapper} to the value of this one. If this future fails, or
+     * {@code mapper} throws, the returned future fails with that exception.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public <R> IFuture<R> map(@NotNull final IFunction<? super T, ? extends R> mapper) {
+        final IFuture<R> result = new IFuture<R>(executor);
+        listen(new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                if (failure != null) {
+                    result.tryFail(failure);
+                    return;
+                }
+                R r;
+                try {
+                    r = mapper.apply(value);
+                } catch (Throwable e) {
+                    result.tryFail(e);
+                    return;
+                }
+                result.trySucceed(r);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a future with the outcome of the future {@code mapper} returns for the value of this one.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public <R> IFuture<R> flatMap(@NotNull final IFunction<? super T, ? extends IFuture<? extends R>> mapper) {
+        final IFuture<R> result = new IFuture<R>(executor);
+        listen(new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                if (failure != null) {
+                    result.tryFail(failure);
+                    return;
+                }
+                IFuture<? extends R> next;
+                try {
+                    next = mapper.apply(value);
+                    Check.notNull(next, "The function passed to IFuture#flatMap returned null");
+                } catch (Throwable e) {
+                    result.tryFail(e);
+                    return;
+                }
+                next.listen(new Listener<R>() {
+                    @Override
+                    public void complete(@Nullable R value, @Nullable Throwable failure) {
+                        result.tryComplete(value, failure);
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a future that, if this one fails, succeeds with the result of applying {@code handler} to the failure.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public IFuture<T> recover(@NotNull final IFunction<? super Throwable, ? extends T> handler) {
+        final IFuture<T> result = new IFuture<T>(executor);
+        listen(new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                if (failure == null) {
+                    result.trySucceed(value);
+                    return;
+                }
+                T recovered;
+                try {
+                    recovered = handler.apply(failure);
+                } catch (Throwable e) {
+                    result.tryFail(e);
+                    return;
+                }
+                result.trySucceed(recovered);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a future that succeeds with {@link IEither.Right} of the value of this one, or with
+     * {@link IEither.Left} of its failure. It only fails if this future succeeds with {@code null}, which
+     * {@link IEither} can't hold.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public IFuture<IEither<Throwable, T>> recoverToEither() {
+        final IFuture<IEither<Throwable, T>> result = new IFuture<IEither<Throwable, T>>(executor);
+        listen(new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                IEither<Throwable, T> either;
+                try {
+                    either = failure != null ? IEither.<Throwable, T>left(failure) : IEither.<Throwable, T>right(value);
+                } catch (Throwable e) {
+                    result.tryFail(e);
+                    return;
+                }
+                result.trySucceed(either);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a future of the values of this future and {@code other}, which fails as soon as either of them does.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public <U> IFuture<IPair<T, U>> zip(@NotNull IFuture<? extends U> other) {
+        final IFuture<IPair<T, U>> result = new IFuture<IPair<T, U>>(executor);
+        final Object[] values = new Object[2];
+        final AtomicInteger remaining = new AtomicInteger(2);
+        listen(new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                if (failure != null) {
+                    result.tryFail(failure);
+                    return;
+                }
+                values[0] = value;
+                if (remaining.decrementAndGet() == 0) {
+                    result.trySucceed(IFuture.<T, U>pairOf(values));
+                }
+            }
+        });
+        other.listen(new Listener<U>() {
+            @Override
+            public void complete(@Nullable U value, @Nullable Throwable failure) {
+                if (failure != null) {
+                    result.tryFail(failure);
+                    return;
+                }
+                values[1] = value;
+                if (remaining.decrementAndGet() == 0) {
+                    result.trySucceed(IFuture.<T, U>pairOf(values));
+                }
+            }
+        });
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, U> IPair<T, U> pairOf(@NotNull Object[] values) {
+        return IPair.pairOf((T) values[0], (U) values[1]);
+    }
+
+    /**
+     * Returns a future of the values of all {@code futures}, in order, which fails as soon as any of them does. Like
+     * the futures created by {@link #zip(IFuture)}, its callbacks run on the executor of the first of them.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> IFuture<IList<T>> sequence(@NotNull final IList<? extends IFuture<? extends T>> futures) {
+        final int size = futures.size();
+        if (size == 0) {
+            return successful(IList.<T>emptyList());
+        }
+        final IFuture<IList<T>> result = new IFuture<IList<T>>(((IFuture<?>) futures.get(0)).executor);
+        final AtomicInteger remaining = new AtomicInteger(size);
+        Listener<T> listener = new Listener<T>() {
+            @Override
+            public void complete(@Nullable T value, @Nullable Throwable failure) {
+                if (failure != null) {
+                    result.tryFail(failure);
+                    return;
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    // every future succeeded by now, so their values are read in order, straight into the list
+                    IList.Builder<T> values = IList.builder(size);
+                    for (IFuture<? extends T> future : futures) {
+                        values.add(future.successValue());
+                    }
+                    result.trySucceed(values.build());
+                }
+            }
+        };
+        for (IFuture<? extends T> future : futures) {
+            future.listen(listener);
+        }
+        return result;
+    }
+
+    /**
+     * The value of this future, which must have succeeded.
+     */
+    private synchronized T successValue() {
+        return value;
+    }
+
+    /**
+     * Blocks until this future completes, for at most {@code timeout}. Meant for the edges of a program (e.g. tests
+     * and {@code main} methods), not for composing futures.
+     *
+     * @return The value of this future.
+     * @throws RuntimeException The failure of this future, wrapped if it was a checked exception.
+     * @throws TimeoutException If the future didn't complete in time.
+     *
+     * @since 1.0.0
+     */
+    public T blockingGet(long timeout, @NotNull TimeUnit unit) throws TimeoutException {
+        T value;
+        Throwable failure;
+        synchronized (this) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!done) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException(String.format("IFuture did not complete in %d %s", timeout, unit));
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the future to complete", e);
+                }
+            }
+            value = this.value;
+            failure = this.failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized String toString() {
+        if (!done) {
+            return "IFuture(<pending>)";
+        }
+        return failure != null ? "IFuture(failed: " + failure + ")" : "IFuture(" + value + ")";
+    }
+
+}
@@ -0,0 +1,358 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IIntBinaryOperator;
+import dev.acdcjunior.iimmutable.fn.IIntFunction;
+import dev.acdcjunior.iimmutable.fn.IIntPredicate;
+import dev.acdcjunior.iimmutable.fn.IIntUnaryOperator;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+
+/**
+ * An immutable list of {@code int}s, stored in an {@code int[]} without boxing.
+ *
+ * @since 1.0.0
+ */
+public final class IIntList {
+
+    private static final IIntList EMPTY_IINTLIST = new IIntList(new int[0], 0, 0);
+
+    private final int[] elements;
+
+    private final int offset;
+
+    private final int size;
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static IIntList intListOf(int... elements) {
+        return ofTrustedArray(elements.clone(), elements.length);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static IIntList emptyIntList() {
+        return EMPTY_IINTLIST;
+    }
+
+    /**
+     * Creates a list with the first {@code size} elements of {@code array}, which must not be changed afterwards.
+     */
+    @NotNull
+    static IIntList ofTrustedArray(@NotNull int[] array, int size) {
+        if (size == 0) {
+            return EMPTY_IINTLIST;
+        }
+        return new IIntList(array, 0, size);
+    }
+
+    private IIntList(@NotNull int[] elements, int offset, int size) {
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean isNotEmpty() {
+        return size != 0;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int get(int index) {
+        IList.rangeCheck(index, size, "Cannot `get(%d)`: ", index);
+
+        return elements[offset + index];
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IIntList map(@NotNull IIntUnaryOperator mapper) {
+        int[] rs = new int[size];
+        for (int i = 0; i < size; i++) {
+            rs[i] = mapper.applyAsInt(elements[offset + i]);
+        }
+        return ofTrustedArray(rs, size);
+    }
+
+    /**
+     * Maps each element to an object, returning an {@link IList} with the results.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IList<R> mapToObj(@NotNull IIntFunction<? extends R> mapper) {
+        IList.Builder<R> rs = IList.builder(size);
+        for (int i = 0; i < size; i++) {
+            rs.add(mapper.apply(elements[offset + i]));
+        }
+        return rs.build();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IIntList filter(@NotNull IIntPredicate predicate) {
+        int[] rs = new int[size];
+        int count = 0;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            int e = elements[i];
+            if (predicate.test(e)) {
+                rs[count++] = e;
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        return ofTrustedArray(rs, count);
+    }
+
+    /**
+     * Accumulates the elements from left to right, starting with the first one.
+     *
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with the accumulated value.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Integer> reduce(@NotNull IIntBinaryOperator reducer) {
+        if (size == 0) {
+            return IOption.none();
+        }
+        return IOption.some(reduce(reducer, elements[offset], offset + 1));
+    }
+
+    /**
+     * Accumulates the elements from left to right, starting with {@code initialValue}.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int reduce(@NotNull IIntBinaryOperator reducer, int initialValue) {
+        return reduce(reducer, initialValue, offset);
+    }
+
+    private int reduce(@NotNull IIntBinaryOperator reducer, int initialValue, int from) {
+        int accumulator = initialValue;
+        for (int i = from, end = offset + size; i < end; i++) {
+            accumulator = reducer.applyAsInt(accumulator, elements[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Returns the sum of the elements, as a {@code long}, so it doesn't overflow for lists of any size.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public long sum() {
+        long sum = 0;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with its smallest element.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Integer> min() {
+        if (size == 0) {
+            return IOption.none();
+        }
+        int min = elements[offset];
+        for (int i = offset + 1, end = offset + size; i < end; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return IOption.some(min);
+    }
+
+    /**
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with its largest element.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Integer> max() {
+        if (size == 0) {
+            return IOption.none();
+        }
+        int max = elements[offset];
+        for (int i = offset + 1, end = offset + size; i < end; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return IOption.some(max);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean contains(int e) {
+        return indexOf(e) != -1;
+    }
+
+    /**
+     * @return The index of the first element equal to the argument, or -1 if no elements are equal to it.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int indexOf(int e) {
+        for (int i = 0; i < size; i++) {
+            if (elements[offset + i] == e) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new list with the elements sorted in ascending order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IIntList sorted() {
+        int[] rs = toArray();
+        Arrays.sort(rs);
+        return ofTrustedArray(rs, size);
+    }
+
+    /**
+     * Creates a new list containing the elements of a range. This takes constant time: the new list shares the
+     * elements of this one.
+     *
+     * @param fromIndex starting endpoint (inclusive) of the subList
+     * @param toIndex ending endpoint (exclusive) of the subList
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IIntList subList(int fromIndex, int toIndex) {
+        IList.subListRangeCheck(fromIndex, toIndex, size);
+
+        if (fromIndex == toIndex) {
+            return EMPTY_IINTLIST;
+        }
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+        return new IIntList(elements, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a new array containing the elements of the list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public int[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + size);
+    }
+
+    /**
+     * Returns an {@link IList} with the elements of this list, boxed.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IList<Integer> boxed() {
+        IList.Builder<Integer> rs = IList.builder(size);
+        for (int i = 0; i < size; i++) {
+            rs.add(elements[offset + i]);
+        }
+        return rs.build();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IIntList that = (IIntList) o;
+        if (size != that.size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (elements[offset + i] != that.elements[that.offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the same hash code as {@link #boxed()}.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            hashCode = 31 * hashCode + elements[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
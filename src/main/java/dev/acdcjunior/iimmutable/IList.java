@@ -3,11 +3,17 @@ package dev.acdcjunior.iimmutable;
 import dev.acdcjunior.iimmutable.fn.IBiFunction;
 import dev.acdcjunior.iimmutable.fn.IConsumer;
 import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IIntObjFunction;
 import dev.acdcjunior.iimmutable.fn.IPredicate;
+import dev.acdcjunior.iimmutable.fn.IToDoubleFunction;
+import dev.acdcjunior.iimmutable.fn.IToIntFunction;
+import dev.acdcjunior.iimmutable.fn.IToLongFunction;
+import dev.acdcjunior.iimmutable.tuple.IPair;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Array;
 import java.util.*;
 
 
@@ -20,14 +26,31 @@ import java.util.*;
  */
 public class IList<T> implements Iterable<T> {
 
-    private static final int ARRAYLIST_DEFAULT_CAPACITY = 10;
-
     private static final int FLATMAP_MAPPER_FUNCTION_DEFAULT_EXPECTED_ELEMENTS = 2;
 
     private static final int JOIN_FUNCTION_DEFAULT_EXPECTED_ELEMENTS_STRING_SIZE = 5;
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private static final IList EMPTY_ILIST = new IList(Collections.emptyList());
+    /**
+     * Up to this size (of either list), {@link #subtract(Iterable)} scans the other list for each element instead of
+     * hashing it, as that is faster for so few elements.
+     */
+    private static final int SUBTRACT_LINEAR_SCAN_MAX_ELEMENTS = 8;
+
+    /**
+     * Returned by {@link #sortedIndexOf(Object)} when the order of the list can't be used to find the element.
+     */
+    private static final int NOT_SEARCHABLE = -2;
+
+    @SuppressWarnings("rawtypes")
+    private static final Comparator NATURAL_ORDER = new Comparator<Comparable<Object>>() {
+        @Override
+        public int compare(Comparable<Object> c1, Comparable<Object> c2) {
+            return c1.compareTo(c2);
+        }
+    };
+
+    @SuppressWarnings("rawtypes")
+    private static final IList EMPTY_ILIST = new IList(0, VectorTrie.BITS, VectorTrie.EMPTY_NODE, VectorTrie.EMPTY_LEAF);
 
     /**
      * @param iterator Collection of elements of the new list.
@@ -37,20 +60,51 @@ public class IList<T> implements Iterable<T> {
      */
     @NotNull
     public static <T> IList<T> listOf(@Nullable Iterator<T> iterator) {
-        if (iterator == null) {
+        if (iterator == null || !iterator.hasNext()) {
             return emptyList();
         }
-        return new IList<T>(IListUtils.toArrayList(iterator));
+        Object[] leaves = new Object[VectorTrie.WIDTH];
+        int leafCount = 0;
+        Object[] leaf = new Object[VectorTrie.WIDTH];
+        int inLeaf = 0;
+        while (iterator.hasNext()) {
+            if (inLeaf == VectorTrie.WIDTH) {
+                if (leafCount == leaves.length) {
+                    leaves = Arrays.copyOf(leaves, leafCount + (leafCount >> 1));
+                }
+                leaves[leafCount++] = leaf;
+                leaf = new Object[VectorTrie.WIDTH];
+                inLeaf = 0;
+            }
+            leaf[inLeaf++] = iterator.next();
+        }
+        int size = (leafCount << VectorTrie.BITS) + inLeaf;
+        Object[] tail = inLeaf == VectorTrie.WIDTH ? leaf : Arrays.copyOf(leaf, inLeaf);
+        return ofLeaves(size, leaves, leafCount, tail);
     }
 
     /**
+     * If {@code iterable} is an {@link IList}, returns it as is. If it is a {@link Collection}, copies its elements in
+     * bulk with {@link Collection#toArray()}.
+     *
      * @param <T> The type of the elements of the list.
      *
      * @since 1.0.0
      */
     @NotNull
     @Contract(pure = true)
+    @SuppressWarnings("unchecked")
     public static <T> IList<T> listOf(@Nullable Iterable<T> iterable) {
+        if (iterable instanceof IList) {
+            return (IList<T>) iterable;
+        }
+        if (iterable instanceof Collection) {
+            Object[] array = ((Collection<T>) iterable).toArray();
+            if (array.getClass() != Object[].class) {
+                array = Arrays.copyOf(array, array.length, Object[].class);
+            }
+            return ofTrustedArray(array);
+        }
         return listOf(iterable == null ? null : iterable.iterator());
     }
 
@@ -58,7 +112,46 @@ public class IList<T> implements Iterable<T> {
         if (items == null || items.length == 0) {
             return emptyList();
         }
-        return new IList<T>(Arrays.asList(items));
+        return ofTrustedArray(items.clone());
+    }
+
+    /**
+     * Creates a list that takes ownership of {@code array}, which must not be changed afterwards.
+     */
+    private static <T> IList<T> ofTrustedArray(@NotNull Object[] array) {
+        return ofTrustedArray(array, array.length);
+    }
+
+    /**
+     * Creates a list with the first {@code size} elements of {@code array}. If these fit in a single leaf and fill
+     * the whole array, the list takes ownership of it, so it must not be changed afterwards.
+     */
+    static <T> IList<T> ofTrustedArray(@NotNull Object[] array, int size) {
+        if (size == 0) {
+            return emptyList();
+        }
+        int tailOffset = VectorTrie.tailOffset(size);
+        if (tailOffset == 0) {
+            return new IList<T>(size, VectorTrie.BITS, VectorTrie.EMPTY_NODE, size == array.length ? array : Arrays.copyOf(array, size));
+        }
+        int leafCount = tailOffset >>> VectorTrie.BITS;
+        Object[] leaves = new Object[leafCount];
+        for (int i = 0; i < leafCount; i++) {
+            int from = i << VectorTrie.BITS;
+            leaves[i] = Arrays.copyOfRange(array, from, from + VectorTrie.WIDTH);
+        }
+        return ofLeaves(size, leaves, leafCount, Arrays.copyOfRange(array, tailOffset, size));
+    }
+
+    /**
+     * Creates a list from the first {@code leafCount} full leaves in {@code leaves} followed by {@code tail}, which
+     * must hold between 1 and {@link VectorTrie#WIDTH} elements, so that it starts at {@link VectorTrie#tailOffset(int)}.
+     */
+    private static <T> IList<T> ofLeaves(int size, @NotNull Object[] leaves, int leafCount, @NotNull Object[] tail) {
+        if (leafCount == 0) {
+            return new IList<T>(size, VectorTrie.BITS, VectorTrie.EMPTY_NODE, tail);
+        }
+        return new IList<T>(size, VectorTrie.shiftFor(leafCount), VectorTrie.buildTree(leaves, leafCount), tail);
     }
 
     /**
@@ -185,98 +278,924 @@ public class IList<T> implements Iterable<T> {
      *
      * @since 1.0.0
      */
-    @NotNull @Contract(pure = true) @SuppressWarnings("unchecked") public static <T> IList<T> listOf(T t1, T t2, T t3, T t4, T t5, T t6, T t7, T t8, T t9, T t10) { return listOfVarags(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10); }
+    @NotNull @Contract(pure = true) @SuppressWarnings("unchecked") public static <T> IList<T> listOf(T t1, T t2, T t3, T t4, T t5, T t6, T t7, T t8, T t9, T t10) { return listOfVarags(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10); }
+    /**
+     * @param items Elements for the list.
+     * @return A new immutable list.
+     * @param <T> The type of the elements of the list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull @Contract(pure = true) public static <T> IList<T> listOf(@Nullable T... items) { return listOfVarags(items); }
+
+    /**
+     * @param <T> The type of the elements of the list.
+     *
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    @Contract(pure = true)
+    public static <T> IList<T> emptyList() {
+        return (IList<T>) EMPTY_ILIST;
+    }
+
+    /**
+     * Creates a builder, to accumulate elements and then create a list with all of them at once.
+     *
+     * @param <T> The type of the elements of the list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> Builder<T> builder() {
+        return new Builder<T>(IList.<T>emptyList(), 0);
+    }
+
+    /**
+     * Creates a builder, to accumulate elements and then create a list with all of them at once.
+     *
+     * @param expectedSize How many elements are expected to be added. The builder can take more or fewer than that.
+     * @param <T> The type of the elements of the list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> Builder<T> builder(int expectedSize) {
+        return new Builder<T>(IList.<T>emptyList(), expectedSize);
+    }
+
+    /**
+     * Accumulates elements to create an {@link IList}. Adding an element takes amortized constant time, as opposed to
+     * creating a new list for each one.
+     *
+     * <p>Builders are not thread-safe.</p>
+     *
+     * @param <T> The type of the elements of the list.
+     *
+     * @see IList#builder()
+     * @see IList#toBuilder()
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder<T> {
+
+        /**
+         * The elements added before the last {@link #build()}, or the list this builder was created from.
+         */
+        @NotNull
+        private IList<T> built;
+
+        /**
+         * The full leaves of the elements added since, which become the leaves of the list built.
+         */
+        @NotNull
+        private Object[] leaves;
+
+        private int leafCount = 0;
+
+        /**
+         * The leaf being filled, which becomes the tail of the list built.
+         */
+        @NotNull
+        private Object[] leaf = VectorTrie.EMPTY_LEAF;
+
+        private int inLeaf = 0;
+
+        private Builder(@NotNull IList<T> built, int expectedSize) {
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("expectedSize cannot be negative: " + expectedSize);
+            }
+            this.built = built;
+            int expectedLeaves = expectedSize >>> VectorTrie.BITS;
+            this.leaves = expectedLeaves == 0 ? VectorTrie.EMPTY_LEAF : new Object[expectedLeaves];
+        }
+
+        /**
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> add(T e) {
+            if (inLeaf == leaf.length) {
+                if (inLeaf != 0) {
+                    if (leafCount == leaves.length) {
+                        leaves = Arrays.copyOf(leaves, Math.max(VectorTrie.WIDTH, leafCount + (leafCount >> 1)));
+                    }
+                    leaves[leafCount++] = leaf;
+                }
+                leaf = new Object[VectorTrie.WIDTH];
+                inLeaf = 0;
+            }
+            leaf[inLeaf++] = e;
+            return this;
+        }
+
+        /**
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> addAll(@NotNull Iterable<? extends T> elements) {
+            for (T e : elements) {
+                add(e);
+            }
+            return this;
+        }
+
+        /**
+         * @return How many elements the list created by {@link #build()} would have.
+         *
+         * @since 1.0.0
+         */
+        @Contract(pure = true)
+        public int size() {
+            return built.size() + (leafCount << VectorTrie.BITS) + inLeaf;
+        }
+
+        /**
+         * Creates a list with all the elements added so far. The leaves the builder filled become the leaves of the
+         * list, without being copied; only a partly filled last leaf is trimmed to size. The builder can still be used
+         * afterwards, without affecting the list.
+         *
+         * @since 1.0.0
+         */
+        @NotNull
+        public IList<T> build() {
+            if (inLeaf != 0) {
+                Object[] tail = inLeaf == VectorTrie.WIDTH ? leaf : Arrays.copyOf(leaf, inLeaf);
+                IList<T> added = ofLeaves((leafCount << VectorTrie.BITS) + inLeaf, leaves, leafCount, tail);
+                int h = built.knownHashCode();
+                if (h != 0) {
+                    for (T e : added) {
+                        h = 31 * h + hash(e);
+                    }
+                }
+                built = built.compact().concatList(added);
+                built.hashCode = h;
+                leaves = VectorTrie.EMPTY_LEAF;
+                leafCount = 0;
+                leaf = VectorTrie.EMPTY_LEAF;
+                inLeaf = 0;
+            }
+            return built;
+        }
+
+    }
+
+    /**
+     * Creates a builder that starts with the elements of this list. They are not copied: the list built will share
+     * them, adding the new elements after them.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Builder<T> toBuilder() {
+        return new Builder<T>(this, 0);
+    }
+
+    private final int size;
+
+    /**
+     * Index, in the trie and tail, of the first element of this list. Non-zero only for views created by {@link #subList(int, int)}.
+     */
+    private final int offset;
+
+    /**
+     * Index, in the trie and tail, of the first element stored in the tail.
+     */
+    private final int tailOffset;
+
+    private final int shift;
+
+    @NotNull
+    private final Object[] root;
+
+    @NotNull
+    private final Object[] tail;
+
+    /**
+     * If {@link #indexOf(Object)} and {@link #contains(Object)} should use {@link #elementIndex}.
+     */
+    private final boolean indexed;
+
+    /**
+     * Built at the first lookup of an {@link #indexed()} list. Volatile so other threads see it fully built.
+     */
+    @Nullable
+    private volatile OpenHashIndex elementIndex;
+
+    /**
+     * The order this list is known to be sorted in, or {@code null} if it isn't known to be sorted.
+     */
+    @Nullable
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Cached {@link #hashCode()}, or 0 if not computed yet. Operations that create a list from this one derive its
+     * hash code from this one when it is known, instead of leaving it to be computed from all elements. Like
+     * {@link String#hashCode()}, it is not volatile: a thread that doesn't see it computes it again.
+     */
+    private int hashCode;
+
+    private IList(int size, int shift, @NotNull Object[] root, @NotNull Object[] tail) {
+        this(size, 0, size - tail.length, shift, root, tail);
+    }
+
+    private IList(int size, int offset, int tailOffset, int shift, @NotNull Object[] root, @NotNull Object[] tail) {
+        this(size, offset, tailOffset, shift, root, tail, false, null);
+    }
+
+    private IList(int size, int offset, int tailOffset, int shift, @NotNull Object[] root, @NotNull Object[] tail,
+                  boolean indexed, @Nullable Comparator<? super T> comparator) {
+        this.size = size;
+        this.offset = offset;
+        this.tailOffset = tailOffset;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+        this.indexed = indexed;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Creates a list out of a trie that may have come out of slicing or concatenation: single-child roots are
+     * dropped and, if everything fits in a tail, the trie is flattened into it.
+     */
+    @NotNull
+    private static <T> IList<T> ofTrie(int size, int shift, @NotNull Object[] root, @NotNull Object[] tail) {
+        if (size == 0) {
+            return emptyList();
+        }
+        if (size <= VectorTrie.WIDTH && size != tail.length) {
+            Object[] array = new Object[size];
+            int treeSize = size - tail.length;
+            for (int i = 0; i < treeSize; i++) {
+                array[i] = VectorTrie.get(root, shift, i);
+            }
+            System.arraycopy(tail, 0, array, treeSize, tail.length);
+            return new IList<T>(size, VectorTrie.BITS, VectorTrie.EMPTY_NODE, array);
+        }
+        Object[] newRoot = root;
+        int newShift = shift;
+        while (newShift > VectorTrie.BITS && VectorTrie.childCount(newRoot) == 1) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= VectorTrie.BITS;
+        }
+        return new IList<T>(size, newShift, newRoot, tail);
+    }
+
+    /**
+     * Tells if this list is a {@link #subList(int, int)} view over only part of its trie and tail.
+     */
+    private boolean isView() {
+        return offset != 0 || tailOffset + tail.length != size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        int i = index + offset;
+        if (i >= tailOffset) {
+            return (T) tail[i - tailOffset];
+        }
+        return (T) VectorTrie.get(root, shift, i);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof IList) {
+            IList<?> other = (IList<?>) o;
+            if (size != other.size) {
+                return false;
+            }
+            int h = knownHashCode();
+            int otherHashCode = other.knownHashCode();
+            if (h != 0 && otherHashCode != 0 && h != otherHashCode) {
+                return false;
+            }
+            if (root == other.root && tail == other.tail && offset == other.offset) {
+                return true;
+            }
+            if (!isView() && !other.isView() && shift == other.shift && tailOffset == other.tailOffset) {
+                return nodesEqual(other, root, other.root, shift, 0) && nodesEqual(other, tail, other.tail, 0, tailOffset);
+            }
+            return elementsEqual(this.iterator(), other.iterator());
+        }
+        if (o instanceof List) {
+            List<?> other = (List<?>) o;
+            return size == other.size() && elementsEqual(this.iterator(), other.iterator());
+        }
+        return false;
+    }
+
+    /**
+     * Compares the elements under node {@code a}, of this list, with the ones under node {@code b}, of
+     * {@code other}, both holding the same number of elements, starting at index {@code from} of both lists. Nodes
+     * shared by both lists are not visited, so lists that were derived one from the other are compared in time
+     * proportional to how much they differ. Where the nodes are split into children differently, the elements are
+     * compared one by one.
+     */
+    private boolean nodesEqual(@NotNull IList<?> other, @NotNull Object[] a, @NotNull Object[] b, int shift, int from) {
+        if (a == b) {
+            return true;
+        }
+        if (shift == 0) {
+            for (int i = 0; i < a.length; i++) {
+                Object o1 = a[i];
+                Object o2 = b[i];
+                if (o1 == null ? o2 != null : !o1.equals(o2)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        int children = VectorTrie.childCount(a);
+        int[] sizes = VectorTrie.sizeTable(a);
+        int[] otherSizes = VectorTrie.sizeTable(b);
+        if (children == VectorTrie.childCount(b) && (sizes == null ? otherSizes == null : Arrays.equals(sizes, otherSizes))) {
+            for (int i = 0; i < children; i++) {
+                int childFrom = from + (i == 0 ? 0 : sizes == null ? i << shift : sizes[i - 1]);
+                if (!nodesEqual(other, (Object[]) a[i], (Object[]) b[i], shift - VectorTrie.BITS, childFrom)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        int to = from + VectorTrie.size(a, shift);
+        return elementsEqual(subList(from, to).iterator(), other.subList(from, to).iterator());
+    }
+
+    private static boolean elementsEqual(Iterator<?> it1, Iterator<?> it2) {
+        while (it1.hasNext()) {
+            Object o1 = it1.next();
+            Object o2 = it2.next();
+            if (o1 == null ? o2 != null : !o1.equals(o2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int hashCode() {
+        int h = hashCode;
+        if (h == 0) {
+            h = 1;
+            for (T item : this) {
+                h = 31 * h + hash(item);
+            }
+            hashCode = h;
+        }
+        return h;
+    }
+
+    /**
+     * The hash code of this list if {@link #hashCode()} already computed it (or it was derived from one it computed),
+     * or 0 if it didn't. The empty list doesn't count: deriving from it would hash every element of every list built
+     * from scratch, whether or not its hash code is ever needed.
+     */
+    private int knownHashCode() {
+        return size == 0 ? 0 : hashCode;
+    }
+
+    private static int hash(@Nullable Object e) {
+        return e == null ? 0 : e.hashCode();
+    }
+
+    /**
+     * @return 31 to the power of {@code exponent}, modulo 2^32.
+     */
+    private static int pow31(int exponent) {
+        int result = 1;
+        int base = 31;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public List<T> toList() {
+        return new ListView();
+    }
+
+    /**
+     * Read-only {@link List} over the elements of this list.
+     */
+    private final class ListView extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+            return IList.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<T> iterator() {
+            return IList.this.iterator();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return IList.this.indexOf(o) != -1;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return IList.this.indexOf(o);
+        }
+
+        @NotNull
+        @Override
+        public Object[] toArray() {
+            return toObjectArray();
+        }
+
+        @NotNull
+        @Override
+        public <E> E[] toArray(@NotNull E[] a) {
+            return copyToArray(a);
+        }
+
+    }
+
+    /**
+     * Copies all elements into a new array, a whole leaf at a time.
+     */
+    @NotNull
+    private Object[] toObjectArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    /**
+     * Copies all elements into {@code a}, if they fit, or into a new array of the same type, as
+     * {@link Collection#toArray(Object[])} does.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private <E> E[] copyToArray(@NotNull E[] a) {
+        E[] array = a.length >= size ? a : (E[]) Array.newInstance(a.getClass().getComponentType(), size);
+        copyTo(array);
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+
+    /**
+     * Copies all elements to the start of {@code array}, which must fit them, a whole leaf at a time.
+     */
+    private void copyTo(@NotNull Object[] array) {
+        if (isView()) {
+            compact().copyTo(array);
+            return;
+        }
+        int treeSize = VectorTrie.copyTo(root, shift, array, 0);
+        System.arraycopy(tail, 0, array, treeSize, tail.length);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public List<T> toMutableList() {
+        return new ArrayList<T>(toList());
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final int end = offset + size;
+            private final int[] indexInArray = new int[1];
+            private int index = offset;
+            private Object[] array = VectorTrie.EMPTY_LEAF;
+
+            @Override
+            public boolean hasNext() {
+                return index < end;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= end) {
+                    throw new NoSuchElementException();
+                }
+                if (indexInArray[0] == array.length) {
+                    if (index >= tailOffset) {
+                        array = tail;
+                        indexInArray[0] = index - tailOffset;
+                    } else {
+                        array = VectorTrie.leafFor(root, shift, index, indexInArray);
+                    }
+                }
+                index++;
+                return (T) array[indexInArray[0]++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("IList is immutable");
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a list with the elements of this list sorted according to {@code comparator}. The sort is stable.
+     *
+     * <p>The list returned knows it is sorted: {@link #binarySearch(Object)}, {@link #indexOf(Object)},
+     * {@link #contains(Object)}, {@link #min(Comparator)} and {@link #max(Comparator)} (with the same comparator) use
+     * that instead of going through all elements. So do the lists created from it by {@link #subList(int, int)},
+     * {@link #filter(IPredicate)}, {@link #distinct()} and {@link #remove(int)}. For this to work, elements that are
+     * {@link Object#equals(Object) equal} must compare as equal.</p>
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public IList<T> sorted(@NotNull Comparator<? super T> comparator) {
+        if (comparator.equals(this.comparator)) {
+            return this;
+        }
+        Object[] array = toObjectArray();
+        Arrays.sort(array, (Comparator<Object>) comparator);
+        IList<T> ls = ofTrustedArray(array);
+        return new IList<T>(ls.size, 0, ls.tailOffset, ls.shift, ls.root, ls.tail, false, comparator);
+    }
+
+    /**
+     * Returns a list with the elements of this list sorted according to their natural order. They must be
+     * {@link Comparable}.
+     *
+     * @see #sorted(Comparator)
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public IList<T> sorted() {
+        return sorted((Comparator<? super T>) NATURAL_ORDER);
+    }
+
+    /**
+     * Returns a list with the elements of this list sorted in reverse of their natural order. They must be
+     * {@link Comparable}.
+     *
+     * @see #sorted(Comparator)
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public IList<T> sortedDescending() {
+        return sorted((Comparator<? super T>) Collections.reverseOrder());
+    }
+
+    /**
+     * Returns a list with the elements of this list sorted according to the natural order of the value
+     * {@code selector} returns for each of them.
+     *
+     * @see #sorted(Comparator)
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R extends Comparable<? super R>> IList<T> sortedBy(@NotNull final IFunction<? super T, R> selector) {
+        return sorted(new Comparator<T>() {
+            @Override
+            public int compare(T t1, T t2) {
+                return selector.apply(t1).compareTo(selector.apply(t2));
+            }
+        });
+    }
+
+    /**
+     * Searches for {@code key} in this list, which must be sorted according to {@code comparator}.
+     *
+     * @return The index of an element that compares as equal to {@code key}, if there is one. Otherwise,
+     *  {@code (-(insertion point) - 1)}, where the insertion point is the index of the first element greater than
+     *  {@code key}, or the size of the list if there is none.
+     *
+     * @see Collections#binarySearch(List, Object, Comparator)
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int binarySearch(T key, @NotNull Comparator<? super T> comparator) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparator.compare(elementAt(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Searches for {@code key} in this list, which must be sorted: in the order it is known to be sorted in (see
+     * {@link #sorted(Comparator)}), or else in the natural order of its elements.
+     *
+     * @see #binarySearch(Object, Comparator)
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public int binarySearch(T key) {
+        Comparator<? super T> order = comparator;
+        if (order == null) {
+            order = (Comparator<? super T>) NATURAL_ORDER;
+        }
+        return binarySearch(key, order);
+    }
+
+    /**
+     * Index of the first element equal to {@code e}, found by binary search in a list known to be sorted, or
+     * {@link #NOT_SEARCHABLE} if its order can't be relied on to find {@code e}. Only the natural order of the class of
+     * {@code e} (or its reverse) can: other comparators may tell apart elements that are equal, or not be meant for
+     * {@code e} at all.
+     */
+    @SuppressWarnings("unchecked")
+    private int sortedIndexOf(@Nullable Object e) {
+        Comparator<? super T> comparator = this.comparator;
+        if (e == null || (comparator != NATURAL_ORDER && !Collections.reverseOrder().equals(comparator))) {
+            return NOT_SEARCHABLE;
+        }
+        Class<?> type = e.getClass();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            T item = elementAt(mid);
+            if (item == null || item.getClass() != type) {
+                return NOT_SEARCHABLE;
+            }
+            if (comparator.compare(item, (T) e) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < size; i++) {
+            T item = elementAt(i);
+            if (e.equals(item)) {
+                return i;
+            }
+            if (item == null || item.getClass() != type) {
+                return NOT_SEARCHABLE;
+            }
+            if (comparator.compare(item, (T) e) != 0) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The smallest element according to {@code comparator}, or {@link IOption.None} if the list is empty.
+     *  Takes constant time if the list is known to be sorted by that comparator.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<T> min(@NotNull Comparator<? super T> comparator) {
+        if (isEmpty()) {
+            return IOption.none();
+        }
+        if (comparator.equals(this.comparator)) {
+            return IOption.some(elementAt(0));
+        }
+        T min = elementAt(0);
+        for (T item : this) {
+            if (comparator.compare(item, min) < 0) {
+                min = item;
+            }
+        }
+        return IOption.some(min);
+    }
+
     /**
-     * @param items Elements for the list.
-     * @return A new immutable list.
-     * @param <T> The type of the elements of the list.
+     * @return The largest element according to {@code comparator}, or {@link IOption.None} if the list is empty.
+     *  Takes constant time if the list is known to be sorted by that comparator.
      *
      * @since 1.0.0
      */
-    @NotNull @Contract(pure = true) public static <T> IList<T> listOf(@Nullable T... items) { return listOfVarags(items); }
+    @NotNull
+    @Contract(pure = true)
+    public IOption<T> max(@NotNull Comparator<? super T> comparator) {
+        if (isEmpty()) {
+            return IOption.none();
+        }
+        if (comparator.equals(this.comparator)) {
+            return IOption.some(elementAt(size - 1));
+        }
+        T max = elementAt(0);
+        for (T item : this) {
+            if (comparator.compare(item, max) > 0) {
+                max = item;
+            }
+        }
+        return IOption.some(max);
+    }
 
     /**
-     * @param <T> The type of the elements of the list.
+     * @return The smallest element in natural order, or {@link IOption.None} if the list is empty. The elements must
+     *  be {@link Comparable}.
      *
      * @since 1.0.0
      */
-    @SuppressWarnings("unchecked")
+    @NotNull
     @Contract(pure = true)
-    public static <T> IList<T> emptyList() {
-        return (IList<T>) EMPTY_ILIST;
+    @SuppressWarnings("unchecked")
+    public IOption<T> min() {
+        if (Collections.reverseOrder().equals(comparator)) {
+            return isEmpty() ? IOption.<T>none() : IOption.some(elementAt(size - 1));
+        }
+        return min((Comparator<? super T>) NATURAL_ORDER);
     }
 
+    /**
+     * @return The largest element in natural order, or {@link IOption.None} if the list is empty. The elements must
+     *  be {@link Comparable}.
+     *
+     * @since 1.0.0
+     */
     @NotNull
-    private final List<T> immutableBackingList;
-
-    private IList(@NotNull List<T> immutableBackingList) {
-        this.immutableBackingList = Collections.unmodifiableList(immutableBackingList);
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public IOption<T> max() {
+        if (Collections.reverseOrder().equals(comparator)) {
+            return isEmpty() ? IOption.<T>none() : IOption.some(elementAt(0));
+        }
+        return max((Comparator<? super T>) NATURAL_ORDER);
     }
 
     /**
-     * @since 1.0.0
+     * Returns {@code ls}, marked as sorted like {@code source} if that is known to be sorted. For lists made of
+     * elements of {@code source} in the same order.
      */
-    @Override
-    @Contract(pure = true)
-    public boolean equals(Object o) {
-        if (o instanceof IList) {
-            return immutableBackingList.equals(((IList<?>) o).immutableBackingList);
+    @NotNull
+    private IList<T> sortedAs(@NotNull IList<T> source) {
+        if (source.comparator == null || comparator != null) {
+            return this;
         }
-        return immutableBackingList.equals(o);
+        return new IList<T>(size, offset, tailOffset, shift, root, tail, indexed, source.comparator);
     }
 
     /**
+     * Returns a lazy view over the elements of this list. Operations chained on the view are only run when a
+     * terminal operation is called on it, all at once, without creating intermediate lists.
+     *
+     * @see IListView
+     *
      * @since 1.0.0
      */
-    @Override
+    @NotNull
     @Contract(pure = true)
-    public int hashCode() {
-        return immutableBackingList.hashCode();
+    public IListView<T> view() {
+        return IListView.of(this);
     }
 
     /**
      * @since 1.0.0
      */
-    @Override
+    @NotNull
     @Contract(pure = true)
-    public String toString() {
-        return immutableBackingList.toString();
+    public <R> IList<R> map(@NotNull IFunction<? super T, ? extends R> mapper) {
+        if (isEmpty()) {
+            return emptyList();
+        }
+        IList<T> ls = compact();
+        Object[] newRoot = mapNode(ls.root, ls.shift, mapper);
+        return new IList<R>(size, ls.shift, newRoot, mapNode(ls.tail, 0, mapper));
     }
 
     /**
-     * @since 1.0.0
+     * Maps, in order, every element under {@code node}, into a node with the very same shape.
      */
     @NotNull
-    @Contract(pure = true)
-    public List<T> toList() {
-        return immutableBackingList;
+    @SuppressWarnings("unchecked")
+    private static <T> Object[] mapNode(@NotNull Object[] node, int shift, @NotNull IFunction<? super T, ?> mapper) {
+        Object[] copy = new Object[node.length];
+        if (shift == 0) {
+            for (int i = 0; i < node.length; i++) {
+                copy[i] = mapper.apply((T) node[i]);
+            }
+            return copy;
+        }
+        int children = VectorTrie.childCount(node);
+        for (int i = 0; i < children; i++) {
+            copy[i] = mapNode((Object[]) node[i], shift - VectorTrie.BITS, mapper);
+        }
+        copy[children] = node[children];
+        return copy;
     }
 
     /**
+     * Maps each element to an {@code int}, returning an {@link IIntList} that stores the results without boxing.
+     *
      * @since 1.0.0
      */
     @NotNull
     @Contract(pure = true)
-    public List<T> toMutableList() {
-        return new ArrayList<T>(immutableBackingList);
+    public IIntList mapToInt(@NotNull IToIntFunction<? super T> mapper) {
+        int[] rs = new int[size];
+        int i = 0;
+        for (T item : this) {
+            rs[i++] = mapper.applyAsInt(item);
+        }
+        return IIntList.ofTrustedArray(rs, size);
     }
 
     /**
+     * Maps each element to a {@code long}, returning an {@link ILongList} that stores the results without boxing.
+     *
      * @since 1.0.0
      */
     @NotNull
-    @Override
     @Contract(pure = true)
-    public Iterator<T> iterator() {
-        return immutableBackingList.iterator();
+    public ILongList mapToLong(@NotNull IToLongFunction<? super T> mapper) {
+        long[] rs = new long[size];
+        int i = 0;
+        for (T item : this) {
+            rs[i++] = mapper.applyAsLong(item);
+        }
+        return ILongList.ofTrustedArray(rs, size);
     }
 
     /**
+     * Maps each element to a {@code double}, returning an {@link IDoubleList} that stores the results without boxing.
+     *
      * @since 1.0.0
      */
+    @NotNull
     @Contract(pure = true)
-    public int size() {
-        return immutableBackingList.size();
+    public IDoubleList mapToDouble(@NotNull IToDoubleFunction<? super T> mapper) {
+        double[] rs = new double[size];
+        int i = 0;
+        for (T item : this) {
+            rs[i++] = mapper.applyAsDouble(item);
+        }
+        return IDoubleList.ofTrustedArray(rs, size);
     }
 
     /**
@@ -284,26 +1203,34 @@ public class IList<T> implements Iterable<T> {
      */
     @NotNull
     @Contract(pure = true)
-    public <R> IList<R> map(@NotNull IFunction<? super T, ? extends R> mapper) {
-        List<R> rs = new ArrayList<R>(this.size());
-        for (T item : this) {
-            rs.add(mapper.apply(item));
-        }
-        return new IList<R>(rs);
+    public <R> IList<R> mapIndexed(@NotNull final IBiFunction<Integer, ? super T, ? extends R> mapper) {
+        return map(new IFunction<T, R>() {
+            private int index = 0;
+
+            @Override
+            public R apply(T item) {
+                return mapper.apply(index++, item);
+            }
+        });
     }
 
     /**
+     * Same as {@link #mapIndexed(IBiFunction)}, but the index is passed as an {@code int}, so it is never boxed. It
+     * has a name of its own so lambdas passed to {@link #mapIndexed(IBiFunction)} are not ambiguous.
+     *
      * @since 1.0.0
      */
     @NotNull
     @Contract(pure = true)
-    public <R> IList<R> mapIndexed(@NotNull IBiFunction<Integer, ? super T, ? extends R> mapper) {
-        List<R> rs = new ArrayList<R>(this.size());
-        int index = 0;
-        for (T item : this) {
-            rs.add(mapper.apply(index++, item));
-        }
-        return new IList<R>(rs);
+    public <R> IList<R> mapIntIndexed(@NotNull final IIntObjFunction<? super T, ? extends R> mapper) {
+        return map(new IFunction<T, R>() {
+            private int index = 0;
+
+            @Override
+            public R apply(T item) {
+                return mapper.apply(index++, item);
+            }
+        });
     }
 
     /**
@@ -315,14 +1242,18 @@ public class IList<T> implements Iterable<T> {
     @NotNull
     @Contract(pure = true)
     public <R> IList<R> flatMap(@NotNull IFunction<? super T, Iterable<? extends R>> mapper) {
-        List<R> rs = new ArrayList<R>(this.size() * FLATMAP_MAPPER_FUNCTION_DEFAULT_EXPECTED_ELEMENTS);
+        Object[] rs = new Object[this.size() * FLATMAP_MAPPER_FUNCTION_DEFAULT_EXPECTED_ELEMENTS];
+        int count = 0;
         for (T item : this) {
             Iterable<? extends R> frs = mapper.apply(item);
             for (R r : frs) {
-                rs.add(r);
+                if (count == rs.length) {
+                    rs = Arrays.copyOf(rs, count + (count >> 1) + 1);
+                }
+                rs[count++] = r;
             }
         }
-        return new IList<R>(rs);
+        return ofTrustedArray(rs, count);
     }
 
     /**
@@ -359,7 +1290,55 @@ public class IList<T> implements Iterable<T> {
     @Contract(pure = true)
     @SuppressWarnings("SuspiciousMethodCalls")
     public int indexOf(@Nullable Object e) {
-        return immutableBackingList.indexOf(e);
+        if (indexed) {
+            return elementIndex().indexOf(e);
+        }
+        if (comparator != null) {
+            int index = sortedIndexOf(e);
+            if (index != NOT_SEARCHABLE) {
+                return index;
+            }
+        }
+        int index = 0;
+        for (T item : this) {
+            if (e == null ? item == null : e.equals(item)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @NotNull
+    private OpenHashIndex elementIndex() {
+        OpenHashIndex index = elementIndex;
+        if (index == null) {
+            index = new OpenHashIndex(this, size);
+            elementIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns a list with the same elements, whose {@link #indexOf(Object)} and {@link #contains(Object)} take
+     * constant time. The first of these calls builds a hash index of the elements, which the list keeps, so it is
+     * worth it for lists that are searched many times. Lists derived from it (by {@link #plus(Object)},
+     * {@link #subList(int, int)}, etc.) are not indexed.
+     *
+     * <p>The index is built using {@link Object#hashCode()} and {@link Object#equals(Object)} of the elements, so
+     * they must not change while the list is in use. It is safe to use the list from many threads.</p>
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IList<T> indexed() {
+        if (indexed) {
+            return this;
+        }
+        IList<T> ls = new IList<T>(size, offset, tailOffset, shift, root, tail, true, comparator);
+        ls.hashCode = hashCode;
+        return ls;
     }
 
     /**
@@ -417,24 +1396,129 @@ public class IList<T> implements Iterable<T> {
     @NotNull
     @Contract(pure = true)
     public IList<T> filter(@NotNull IPredicate<? super T> predicate) {
-        List<T> rs = new ArrayList<T>(this.size());
+        Object[] rs = new Object[size];
+        int count = 0;
         for (T item : this) {
             if (predicate.test(item)) {
-                rs.add(item);
+                rs[count++] = item;
             }
         }
-        return new IList<T>(rs);
+        if (count == size) {
+            return this;
+        }
+        return IList.<T>ofTrustedArray(rs, count).sortedAs(this);
     }
 
+    @SuppressWarnings("unchecked")
     private IList<T> concatVarargs(Iterable<? extends T>... iterables) {
-        List<T> ls = new ArrayList<T>(immutableBackingList.size() + iterables.length * ARRAYLIST_DEFAULT_CAPACITY);
-        ls.addAll(immutableBackingList);
+        IList<T> ls = compact();
+        int h = knownHashCode();
         for (Iterable<? extends T> iterable : iterables) {
-            for (T item : iterable) {
-                ls.add(item);
+            if (iterable instanceof IList) {
+                IList<T> other = (IList<T>) iterable;
+                ls = ls.concatList(other);
+                h = concatHashCode(h, other);
+            } else {
+                for (T item : iterable) {
+                    ls = ls.append(item);
+                    if (h != 0) {
+                        h = 31 * h + hash(item);
+                    }
+                }
             }
         }
-        return new IList<T>(ls);
+        if (h != 0 && ls.hashCode == 0) {
+            ls.hashCode = h;
+        }
+        return ls;
+    }
+
+    /**
+     * @return The hash code of a list with hash code {@code h} followed by {@code other}, or 0 if either is unknown.
+     */
+    private static int concatHashCode(int h, @NotNull IList<?> other) {
+        if (other.size == 0) {
+            return h;
+        }
+        int otherHashCode = other.knownHashCode();
+        if (h == 0 || otherHashCode == 0) {
+            return 0;
+        }
+        int shift = pow31(other.size);
+        return h * shift + otherHashCode - shift;
+    }
+
+    /**
+     * Concatenates in logarithmic time: the tries of both lists are joined sharing every node but the ones along
+     * the seam between them. This list must not be a view.
+     */
+    @NotNull
+    private IList<T> concatList(@NotNull IList<T> otherList) {
+        if (otherList.isEmpty()) {
+            return this;
+        }
+        IList<T> other = otherList.compact();
+        if (this.isEmpty()) {
+            return other;
+        }
+        if (other.tailOffset == 0) {
+            return appendArray(other.tail);
+        }
+        IList<T> left = this.withTailPushed(VectorTrie.EMPTY_LEAF);
+        Object[] newRoot = VectorTrie.concat(left.root, left.shift, other.root, other.shift);
+        return ofTrie(size + other.size, Math.max(left.shift, other.shift) + VectorTrie.BITS, newRoot, other.tail);
+    }
+
+    /**
+     * Appends the elements of {@code array}, which has at most {@link VectorTrie#WIDTH} elements.
+     */
+    @NotNull
+    private IList<T> appendArray(@NotNull Object[] array) {
+        int room = VectorTrie.WIDTH - tail.length;
+        if (array.length <= room) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + array.length);
+            System.arraycopy(array, 0, newTail, tail.length, array.length);
+            return new IList<T>(size + array.length, shift, root, newTail);
+        }
+        Object[] fullTail = Arrays.copyOf(tail, VectorTrie.WIDTH);
+        System.arraycopy(array, 0, fullTail, tail.length, room);
+        return new IList<T>(size - tail.length + VectorTrie.WIDTH, shift, root, fullTail)
+                .withTailPushed(Arrays.copyOfRange(array, room, array.length));
+    }
+
+    /**
+     * Appends an element in (amortized) constant time: only every {@link VectorTrie#WIDTH}th append touches the
+     * trie, all others copy just the tail.
+     */
+    @NotNull
+    private IList<T> append(T e) {
+        if (tail.length < VectorTrie.WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new IList<T>(size + 1, shift, root, newTail);
+        }
+        return withTailPushed(new Object[] { e });
+    }
+
+    /**
+     * Moves the current tail (if not empty) into the trie as its last leaf, and uses {@code newTail} as the tail.
+     */
+    @NotNull
+    private IList<T> withTailPushed(@NotNull Object[] newTail) {
+        int newSize = size + newTail.length;
+        if (tail.length == 0) {
+            return new IList<T>(newSize, shift, root, newTail);
+        }
+        Object[] newRoot = VectorTrie.appendLeaf(root, shift, tail);
+        if (newRoot != null) {
+            return new IList<T>(newSize, shift, newRoot, newTail);
+        }
+        Object[] overflowRoot = new Object[] { root, VectorTrie.newPath(shift, tail), null };
+        int rootSize = size - tail.length;
+        if (rootSize != 1 << (shift + VectorTrie.BITS)) {
+            overflowRoot[2] = new int[] { rootSize, size };
+        }
+        return new IList<T>(newSize, shift + VectorTrie.BITS, overflowRoot, newTail);
     }
 
     /**
@@ -477,14 +1561,48 @@ public class IList<T> implements Iterable<T> {
     }
 
     /**
-     * Creates a new list containing all current elements minus the duplicates.
-     * See: https://stackoverflow.com/a/15603260/1850609
+     * Creates a new list containing all current elements minus the duplicates. Keeps the first occurrence of each
+     * element.
+     *
      * @since 1.0.0
      */
     @NotNull
     @Contract(pure = true)
     public IList<T> distinct() {
-        return listOf(new LinkedHashSet<T>(immutableBackingList).iterator());
+        OpenHashSet seen = new OpenHashSet(size);
+        Object[] rs = new Object[size];
+        int count = 0;
+        for (T item : this) {
+            if (seen.add(item)) {
+                rs[count++] = item;
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        return IList.<T>ofTrustedArray(rs, count).sortedAs(this);
+    }
+
+    /**
+     * Creates a new list containing only the first element for each key returned by {@code keySelector}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <K> IList<T> distinctBy(@NotNull IFunction<? super T, K> keySelector) {
+        OpenHashSet seen = new OpenHashSet(size);
+        Object[] rs = new Object[size];
+        int count = 0;
+        for (T item : this) {
+            if (seen.add(keySelector.apply(item))) {
+                rs[count++] = item;
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        return IList.<T>ofTrustedArray(rs, count).sortedAs(this);
     }
 
     /**
@@ -494,10 +1612,25 @@ public class IList<T> implements Iterable<T> {
     @Contract(pure = true)
     public IList<T> subtract(@NotNull Iterable<T> other) {
         final IList<T> otherLs = IList.listOf(other);
+        if (otherLs.isEmpty()) {
+            return this;
+        }
+        if (size <= SUBTRACT_LINEAR_SCAN_MAX_ELEMENTS || otherLs.size() <= SUBTRACT_LINEAR_SCAN_MAX_ELEMENTS) {
+            return filter(new IPredicate<T>() {
+                @Override
+                public boolean test(@Nullable T t) {
+                    return !otherLs.contains(t);
+                }
+            });
+        }
+        final OpenHashSet otherSet = new OpenHashSet(otherLs.size());
+        for (T item : otherLs) {
+            otherSet.add(item);
+        }
         return filter(new IPredicate<T>() {
             @Override
             public boolean test(@Nullable T t) {
-                return !otherLs.contains(t);
+                return !otherSet.contains(t);
             }
         });
     }
@@ -612,7 +1745,18 @@ public class IList<T> implements Iterable<T> {
 
     @SuppressWarnings("unchecked")
     private IList<T> plusVarargs(T... c) {
-        return plusVarargs(listOf(c));
+        IList<T> ls = compact();
+        int h = knownHashCode();
+        for (T item : c) {
+            ls = ls.append(item);
+            if (h != 0) {
+                h = 31 * h + hash(item);
+            }
+        }
+        if (h != 0 && ls.hashCode == 0) {
+            ls.hashCode = h;
+        }
+        return ls;
     }
 
     /**
@@ -712,7 +1856,7 @@ public class IList<T> implements Iterable<T> {
         if (this.isEmpty()) {
             return IOption.none();
         }
-        return IOption.ofNullable(immutableBackingList.get(0));
+        return IOption.ofNullable(elementAt(0));
     }
 
     /**
@@ -730,7 +1874,7 @@ public class IList<T> implements Iterable<T> {
         if (this.isEmpty()) {
             return null;
         }
-        return immutableBackingList.get(0);
+        return elementAt(0);
     }
 
     /**
@@ -759,7 +1903,7 @@ public class IList<T> implements Iterable<T> {
     @NotNull
     @Contract(pure = true)
     public T[] toArray(T[] a) {
-        return immutableBackingList.toArray(a);
+        return copyToArray(a);
     }
 
     /**
@@ -795,10 +1939,11 @@ public class IList<T> implements Iterable<T> {
     @NotNull
     @Contract(pure = true)
     public String join(String separator) {
-        StringBuilder sb = new StringBuilder(immutableBackingList.size() * JOIN_FUNCTION_DEFAULT_EXPECTED_ELEMENTS_STRING_SIZE);
-        for (int i = 0, backingListSize = immutableBackingList.size(); i < backingListSize; i++) {
-            sb.append(immutableBackingList.get(i));
-            if (i < backingListSize - 1) {
+        StringBuilder sb = new StringBuilder(size * JOIN_FUNCTION_DEFAULT_EXPECTED_ELEMENTS_STRING_SIZE);
+        int i = 0;
+        for (T item : this) {
+            sb.append(item);
+            if (i++ < size - 1) {
                 sb.append(separator);
             }
         }
@@ -814,13 +1959,98 @@ public class IList<T> implements Iterable<T> {
         return this.join("");
     }
 
+    /**
+     * Groups the elements by the key {@code keySelector} returns for each of them. Keys are kept in the order they
+     * first appear, and the elements of each group in the order they are in this list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <K> IMap<K, IList<T>> groupBy(@NotNull IFunction<? super T, ? extends K> keySelector) {
+        Map<K, Object> groups = new LinkedHashMap<K, Object>();
+        for (T item : this) {
+            K key = keySelector.apply(item);
+            Builder<T> group = (Builder<T>) groups.get(key);
+            if (group == null) {
+                group = new Builder<T>(IList.<T>emptyList(), 0);
+                groups.put(key, group);
+            }
+            group.add(item);
+        }
+        for (Map.Entry<K, Object> entry : groups.entrySet()) {
+            entry.setValue(((Builder<T>) entry.getValue()).build());
+        }
+        return IMap.ofTrustedMap((Map<K, IList<T>>) (Map) groups);
+    }
+
+    /**
+     * Splits the elements in two lists: the ones that match {@code predicate} (left) and the ones that don't
+     * (right). Both keep the order the elements have in this list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IPair<IList<T>, IList<T>> partition(@NotNull IPredicate<? super T> predicate) {
+        // matches are put from the start of the array and the others from its end, backwards
+        Object[] rs = new Object[size];
+        int matches = 0;
+        int others = size;
+        for (T item : this) {
+            if (predicate.test(item)) {
+                rs[matches++] = item;
+            } else {
+                rs[--others] = item;
+            }
+        }
+        if (matches == size) {
+            return IPair.pairOf(this, IList.<T>emptyList());
+        }
+        if (matches == 0) {
+            return IPair.pairOf(IList.<T>emptyList(), this);
+        }
+        Object[] rights = new Object[size - matches];
+        for (int i = 0; i < rights.length; i++) {
+            rights[i] = rs[size - 1 - i];
+        }
+        return IPair.pairOf(IList.<T>ofTrustedArray(rs, matches).sortedAs(this), IList.<T>ofTrustedArray(rights).sortedAs(this));
+    }
+
+    /**
+     * Counts how many elements there are for each key {@code keySelector} returns. Keys are kept in the order they
+     * first appear.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <K> IMap<K, Integer> countBy(@NotNull IFunction<? super T, ? extends K> keySelector) {
+        Map<K, Object> counts = new LinkedHashMap<K, Object>();
+        for (T item : this) {
+            K key = keySelector.apply(item);
+            int[] count = (int[]) counts.get(key);
+            if (count == null) {
+                counts.put(key, new int[] { 1 });
+            } else {
+                count[0]++;
+            }
+        }
+        for (Map.Entry<K, Object> entry : counts.entrySet()) {
+            entry.setValue(((int[]) entry.getValue())[0]);
+        }
+        return IMap.ofTrustedMap((Map<K, Integer>) (Map) counts);
+    }
+
     /**
      * @since 1.0.0
      */
     @NotNull
     public <K> Map<K, T> associateBy(IFunction<T, K> keySelector) {
-        Map<K, T> map = new HashMap<K, T>(immutableBackingList.size());
-        for (T el : immutableBackingList) {
+        Map<K, T> map = new HashMap<K, T>(size);
+        for (T el : this) {
             map.put(keySelector.apply(el), el);
         }
         return map;
@@ -831,8 +2061,8 @@ public class IList<T> implements Iterable<T> {
      */
     @NotNull
     public <K, V> Map<K, V> associateBy(IFunction<T, K> keySelector, IFunction<T, V> valueTransform) {
-        Map<K, V> map = new HashMap<K, V>(immutableBackingList.size());
-        for (T el : immutableBackingList) {
+        Map<K, V> map = new HashMap<K, V>(size);
+        for (T el : this) {
             map.put(keySelector.apply(el), valueTransform.apply(el));
         }
         return map;
@@ -863,7 +2093,7 @@ public class IList<T> implements Iterable<T> {
      */
     @Contract(pure = true)
     public boolean contains(T e) {
-        return immutableBackingList.contains(e);
+        return indexOf(e) != -1;
     }
 
     /**
@@ -881,10 +2111,10 @@ public class IList<T> implements Iterable<T> {
     public T get(int index) {
         rangeCheck(index, size(), "Cannot `get(%d)`: ", index);
 
-        return immutableBackingList.get(index);
+        return elementAt(index);
     }
 
-    private static void rangeCheck(int index, int size, String format, Object... args) {
+    static void rangeCheck(int index, int size, String format, Object... args) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException(
                     String.format("%sIndex (%d) must be equal to or greater than zero and less than size (%d)", String.format(format, args), index, size)
@@ -900,9 +2130,25 @@ public class IList<T> implements Iterable<T> {
     public IList<T> set(int index, T e) {
         rangeCheck(index, size(), "Cannot `set(%d, %s)`: ", index, e);
 
-        List<T> copy = new ArrayList<T>(this.immutableBackingList);
-        copy.set(index, e);
-        return new IList<T>(copy);
+        IList<T> ls = compact().replace(index, e);
+        int h = hashCode;
+        if (h != 0) {
+            ls.hashCode = h + (hash(e) - hash(elementAt(index))) * pow31(size - 1 - index);
+        }
+        return ls;
+    }
+
+    /**
+     * This list must not be a view.
+     */
+    @NotNull
+    private IList<T> replace(int index, T e) {
+        if (index >= tailOffset) {
+            Object[] newTail = tail.clone();
+            newTail[index - tailOffset] = e;
+            return new IList<T>(size, shift, root, newTail);
+        }
+        return new IList<T>(size, shift, VectorTrie.set(root, shift, index, e), tail);
     }
 
     /**
@@ -913,14 +2159,30 @@ public class IList<T> implements Iterable<T> {
     public IList<T> remove(int index) {
         rangeCheck(index, size(), "Cannot `remove(%d)`: ", index);
 
-        List<T> copy = new ArrayList<T>(this.immutableBackingList);
-        copy.remove(index);
-        return new IList<T>(copy);
+        return compact().delete(index).sortedAs(this);
+    }
+
+    /**
+     * This list must not be a view.
+     */
+    @NotNull
+    private IList<T> delete(int index) {
+        if (index >= tailOffset) {
+            Object[] newTail = new Object[tail.length - 1];
+            System.arraycopy(tail, 0, newTail, 0, index - tailOffset);
+            System.arraycopy(tail, index - tailOffset + 1, newTail, index - tailOffset, tail.length - (index - tailOffset) - 1);
+            return ofTrie(size - 1, shift, root, newTail);
+        }
+        return slice(0, index).concatList(slice(index + 1, size));
     }
 
     /**
      * Creates a new list containing the elements of a range.
      *
+     * <p>This takes constant time: the new list is a view that shares the elements of this list instead of
+     * copying them. As a consequence, it keeps all the elements of this list reachable. If that is a concern, for
+     * instance if the range is small and the new list is long-lived, use {@link #compact()} on it.</p>
+     *
      * @param fromIndex starting endpoint (inclusive) of the subList
      * @param toIndex ending endpoint (exclusive) of the subList
      * @return A new {@link IList} containing the elements of the specified range.
@@ -932,10 +2194,58 @@ public class IList<T> implements Iterable<T> {
     public IList<T> subList(int fromIndex, int toIndex) {
         subListRangeCheck(fromIndex, toIndex, size());
 
-        return new IList<T>(new ArrayList<T>(this.immutableBackingList.subList(fromIndex, toIndex)));
+        if (fromIndex == toIndex) {
+            return emptyList();
+        }
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+        return new IList<T>(toIndex - fromIndex, offset + fromIndex, tailOffset, shift, root, tail, false, comparator);
+    }
+
+    /**
+     * Returns a list with the same elements as this one, but that only keeps reachable the storage it needs.
+     *
+     * <p>Lists created by {@link #subList(int, int)} share the storage of the list they were created from. This
+     * method returns a copy of such lists that doesn't, sharing only the parts of the storage that are entirely
+     * within the range, and copying the rest. It takes logarithmic time. For all other lists, it returns them.</p>
+     *
+     * @return This list, if it isn't a {@link #subList(int, int) subList} view. Otherwise, a new list with the same elements.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IList<T> compact() {
+        if (!isView()) {
+            return this;
+        }
+        return slice(offset, offset + size);
+    }
+
+    /**
+     * Creates a list with the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) of the trie
+     * and tail, sharing every node that lies entirely in that range.
+     */
+    @NotNull
+    private IList<T> slice(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return emptyList();
+        }
+        if (fromIndex >= tailOffset) {
+            return ofTrie(toIndex - fromIndex, VectorTrie.BITS, VectorTrie.EMPTY_NODE, Arrays.copyOfRange(tail, fromIndex - tailOffset, toIndex - tailOffset));
+        }
+        Object[] newTail = toIndex > tailOffset ? Arrays.copyOf(tail, toIndex - tailOffset) : VectorTrie.EMPTY_LEAF;
+        Object[] newRoot = root;
+        int treeToIndex = Math.min(toIndex, tailOffset);
+        if (treeToIndex < tailOffset) {
+            newRoot = VectorTrie.takeFront(newRoot, shift, treeToIndex);
+        }
+        newRoot = VectorTrie.dropFront(newRoot, shift, fromIndex);
+        return ofTrie(toIndex - fromIndex, shift, newRoot, newTail);
     }
 
-    private static void subListRangeCheck(int fromIndex, int toIndex, int size) {
+    static void subListRangeCheck(int fromIndex, int toIndex, int size) {
         if (fromIndex < 0) {
             throw new IndexOutOfBoundsException(String.format(
                     "Cannot `subList(%d, %d)`: fromIndex (%d) must be equal to or greater than zero and less than size (%d)",
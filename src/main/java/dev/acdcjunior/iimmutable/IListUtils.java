@@ -4,6 +4,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
@@ -18,7 +19,14 @@ public class IListUtils {
      */
     @NotNull
     @Contract(pure = true)
+    @SuppressWarnings("unchecked")
     public static <T> List<T> toArrayList(Iterable<T> iterable) {
+        if (iterable instanceof Collection) {
+            return new ArrayList<T>((Collection<T>) iterable);
+        }
+        if (iterable instanceof IList) {
+            return new ArrayList<T>(((IList<T>) iterable).toList());
+        }
         return toArrayList(iterable.iterator());
     }
 
@@ -0,0 +1,440 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IBiFunction;
+import dev.acdcjunior.iimmutable.fn.IConsumer;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IPredicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A lazy view over the elements of an {@link IList}, created by {@link IList#view()}.
+ *
+ * <p>Intermediate operations ({@link #map(IFunction)}, {@link #filter(IPredicate)}, {@link #flatMap(IFunction)},
+ * {@link #peek(IConsumer)}, {@link #take(int)}, {@link #drop(int)}) don't do anything but return a new view. All of
+ * them are only executed when a terminal operation ({@link #toIList()}, {@link #reduce(IBiFunction)},
+ * {@link #join(String)}, {@link #find(IPredicate)}, {@link #any(IPredicate)}, {@link #first()}, ...) is called, in a
+ * single pass over the list, without creating intermediate lists. Terminal operations that don't need all elements
+ * stop as soon as they have their result.</p>
+ *
+ * <p>Views are not cached: every terminal operation goes over the list again.</p>
+ *
+ * @param <T> The type of the elements of the view.
+ *
+ * @since 1.0.0
+ */
+public abstract class IListView<T> {
+
+    /**
+     * Receives the elements of a view, one at a time.
+     */
+    interface Sink<T> {
+        /**
+         * @return {@code false} if no more elements should be sent.
+         */
+        boolean accept(T t);
+    }
+
+    IListView() {
+    }
+
+    /**
+     * Sends the elements of this view, in order, to {@code sink}, until there are no more or it doesn't want them.
+     */
+    abstract void push(@NotNull Sink<? super T> sink);
+
+    /**
+     * Estimate of the number of elements of this view, used to presize buffers.
+     */
+    abstract int sizeHint();
+
+    @NotNull
+    static <T> IListView<T> of(@NotNull final IList<T> list) {
+        return new IListView<T>() {
+            @Override
+            void push(@NotNull Sink<? super T> sink) {
+                for (T item : list) {
+                    if (!sink.accept(item)) {
+                        return;
+                    }
+                }
+            }
+
+            @Override
+            int sizeHint() {
+                return list.size();
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IListView<R> map(@NotNull final IFunction<? super T, ? extends R> mapper) {
+        return new IListView<R>() {
+            @Override
+            void push(@NotNull final Sink<? super R> sink) {
+                IListView.this.push(new Sink<T>() {
+                    @Override
+                    public boolean accept(T t) {
+                        return sink.accept(mapper.apply(t));
+                    }
+                });
+            }
+
+            @Override
+            int sizeHint() {
+                return IListView.this.sizeHint();
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IListView<T> filter(@NotNull final IPredicate<? super T> predicate) {
+        return new IListView<T>() {
+            @Override
+            void push(@NotNull final Sink<? super T> sink) {
+                IListView.this.push(new Sink<T>() {
+                    @Override
+                    public boolean accept(T t) {
+                        return !predicate.test(t) || sink.accept(t);
+                    }
+                });
+            }
+
+            @Override
+            int sizeHint() {
+                return IListView.this.sizeHint();
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IListView<T> filterNonNull() {
+        return filter(new IPredicate<T>() {
+            @Override
+            public boolean test(@Nullable T t) {
+                return t != null;
+            }
+        });
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IListView<R> flatMap(@NotNull final IFunction<? super T, Iterable<? extends R>> mapper) {
+        return new IListView<R>() {
+            @Override
+            void push(@NotNull final Sink<? super R> sink) {
+                IListView.this.push(new Sink<T>() {
+                    @Override
+                    public boolean accept(T t) {
+                        for (R r : mapper.apply(t)) {
+                            if (!sink.accept(r)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                });
+            }
+
+            @Override
+            int sizeHint() {
+                return IListView.this.sizeHint();
+            }
+        };
+    }
+
+    /**
+     * Calls {@code consumer} with each element that goes through this view, when (and only if) a terminal operation
+     * reaches it.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IListView<T> peek(@NotNull final IConsumer<? super T> consumer) {
+        return new IListView<T>() {
+            @Override
+            void push(@NotNull final Sink<? super T> sink) {
+                IListView.this.push(new Sink<T>() {
+                    @Override
+                    public boolean accept(T t) {
+                        consumer.accept(t);
+                        return sink.accept(t);
+                    }
+                });
+            }
+
+            @Override
+            int sizeHint() {
+                return IListView.this.sizeHint();
+            }
+        };
+    }
+
+    /**
+     * Returns a view of the first {@code n} elements of this view. No elements past them are computed.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IListView<T> take(final int n) {
+        checkCount(n, "take");
+        return new IListView<T>() {
+            @Override
+            void push(@NotNull final Sink<? super T> sink) {
+                if (n == 0) {
+                    return;
+                }
+                IListView.this.push(new Sink<T>() {
+                    private int remaining = n;
+
+                    @Override
+                    public boolean accept(T t) {
+                        return sink.accept(t) && --remaining > 0;
+                    }
+                });
+            }
+
+            @Override
+            int sizeHint() {
+                return Math.min(n, IListView.this.sizeHint());
+            }
+        };
+    }
+
+    /**
+     * Returns a view of all but the first {@code n} elements of this view.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IListView<T> drop(final int n) {
+        checkCount(n, "drop");
+        return new IListView<T>() {
+            @Override
+            void push(@NotNull final Sink<? super T> sink) {
+                IListView.this.push(new Sink<T>() {
+                    private int remaining = n;
+
+                    @Override
+                    public boolean accept(T t) {
+                        if (remaining > 0) {
+                            remaining--;
+                            return true;
+                        }
+                        return sink.accept(t);
+                    }
+                });
+            }
+
+            @Override
+            int sizeHint() {
+                return Math.max(0, IListView.this.sizeHint() - n);
+            }
+        };
+    }
+
+    private static void checkCount(int n, String operation) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format("Cannot `%s(%d)`: count must be equal to or greater than zero", operation, n));
+        }
+    }
+
+    /**
+     * Runs all operations of this view and collects the resulting elements in a new list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IList<T> toIList() {
+        final IList.Builder<T> builder = IList.builder(sizeHint());
+        push(new Sink<T>() {
+            @Override
+            public boolean accept(T t) {
+                builder.add(t);
+                return true;
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * @see IList#reduce(IBiFunction)
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R extends T> IOption<T> reduce(@NotNull final IBiFunction<T, T, R> reducer) {
+        final Object[] accumulator = { null };
+        final boolean[] found = { false };
+        push(new Sink<T>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public boolean accept(T t) {
+                if (found[0]) {
+                    accumulator[0] = reducer.apply((T) accumulator[0], t);
+                } else {
+                    accumulator[0] = t;
+                    found[0] = true;
+                }
+                return true;
+            }
+        });
+        @SuppressWarnings("unchecked")
+        T result = (T) accumulator[0];
+        return found[0] ? IOption.some(result) : IOption.<T>none();
+    }
+
+    /**
+     * @see IList#reduce(IList.Reducer, Object)
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public <R> R reduce(@NotNull final IList.Reducer<T, R> reducer, R initialValue) {
+        final Object[] accumulator = { initialValue };
+        push(new Sink<T>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public boolean accept(T t) {
+                accumulator[0] = reducer.reduce((R) accumulator[0], t);
+                return true;
+            }
+        });
+        @SuppressWarnings("unchecked")
+        R result = (R) accumulator[0];
+        return result;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public String join(@NotNull final String separator) {
+        final StringBuilder sb = new StringBuilder();
+        push(new Sink<T>() {
+            private boolean first = true;
+
+            @Override
+            public boolean accept(T t) {
+                if (!first) {
+                    sb.append(separator);
+                }
+                first = false;
+                sb.append(t);
+                return true;
+            }
+        });
+        return sb.toString();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public String join() {
+        return this.join("");
+    }
+
+    /**
+     * Returns the first element that matches the given predicate, or {@link IOption.None} if no element matches it.
+     * Stops at the first match.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<T> find(@NotNull final IPredicate<? super T> predicate) {
+        final Object[] match = { null };
+        final boolean[] found = { false };
+        push(new Sink<T>() {
+            @Override
+            public boolean accept(T t) {
+                if (predicate.test(t)) {
+                    match[0] = t;
+                    found[0] = true;
+                    return false;
+                }
+                return true;
+            }
+        });
+        @SuppressWarnings("unchecked")
+        T result = (T) match[0];
+        return found[0] ? IOption.some(result) : IOption.<T>none();
+    }
+
+    /**
+     * Tests if any of the elements match the given predicate. Stops at the first match.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean any(@NotNull IPredicate<? super T> predicate) {
+        return this.find(predicate).isDefined();
+    }
+
+    /**
+     * Returns an {@link IOption} containing the first element of the view, if it exists and is not <code>null</code>.
+     * Only the operations needed to produce that element are run.
+     *
+     * @see IList#first()
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<T> first() {
+        final Object[] first = { null };
+        push(new Sink<T>() {
+            @Override
+            public boolean accept(T t) {
+                first[0] = t;
+                return false;
+            }
+        });
+        @SuppressWarnings("unchecked")
+        T result = (T) first[0];
+        return IOption.ofNullable(result);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public void forEach(@NotNull final IConsumer<? super T> consumer) {
+        push(new Sink<T>() {
+            @Override
+            public boolean accept(T t) {
+                consumer.accept(t);
+                return true;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,358 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.ILongBinaryOperator;
+import dev.acdcjunior.iimmutable.fn.ILongFunction;
+import dev.acdcjunior.iimmutable.fn.ILongPredicate;
+import dev.acdcjunior.iimmutable.fn.ILongUnaryOperator;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+
+/**
+ * An immutable list of {@code long}s, stored in a {@code long[]} without boxing.
+ *
+ * @since 1.0.0
+ */
+public final class ILongList {
+
+    private static final ILongList EMPTY_ILONGLIST = new ILongList(new long[0], 0, 0);
+
+    private final long[] elements;
+
+    private final int offset;
+
+    private final int size;
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static ILongList longListOf(long... elements) {
+        return ofTrustedArray(elements.clone(), elements.length);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static ILongList emptyLongList() {
+        return EMPTY_ILONGLIST;
+    }
+
+    /**
+     * Creates a list with the first {@code size} elements of {@code array}, which must not be changed afterwards.
+     */
+    @NotNull
+    static ILongList ofTrustedArray(@NotNull long[] array, int size) {
+        if (size == 0) {
+            return EMPTY_ILONGLIST;
+        }
+        return new ILongList(array, 0, size);
+    }
+
+    private ILongList(@NotNull long[] elements, int offset, int size) {
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean isNotEmpty() {
+        return size != 0;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public long get(int index) {
+        IList.rangeCheck(index, size, "Cannot `get(%d)`: ", index);
+
+        return elements[offset + index];
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ILongList map(@NotNull ILongUnaryOperator mapper) {
+        long[] rs = new long[size];
+        for (int i = 0; i < size; i++) {
+            rs[i] = mapper.applyAsLong(elements[offset + i]);
+        }
+        return ofTrustedArray(rs, size);
+    }
+
+    /**
+     * Maps each element to an object, returning an {@link IList} with the results.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IList<R> mapToObj(@NotNull ILongFunction<? extends R> mapper) {
+        IList.Builder<R> rs = IList.builder(size);
+        for (int i = 0; i < size; i++) {
+            rs.add(mapper.apply(elements[offset + i]));
+        }
+        return rs.build();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ILongList filter(@NotNull ILongPredicate predicate) {
+        long[] rs = new long[size];
+        int count = 0;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            long e = elements[i];
+            if (predicate.test(e)) {
+                rs[count++] = e;
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        return ofTrustedArray(rs, count);
+    }
+
+    /**
+     * Accumulates the elements from left to right, starting with the first one.
+     *
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with the accumulated value.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Long> reduce(@NotNull ILongBinaryOperator reducer) {
+        if (size == 0) {
+            return IOption.none();
+        }
+        return IOption.some(reduce(reducer, elements[offset], offset + 1));
+    }
+
+    /**
+     * Accumulates the elements from left to right, starting with {@code initialValue}.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public long reduce(@NotNull ILongBinaryOperator reducer, long initialValue) {
+        return reduce(reducer, initialValue, offset);
+    }
+
+    private long reduce(@NotNull ILongBinaryOperator reducer, long initialValue, int from) {
+        long accumulator = initialValue;
+        for (int i = from, end = offset + size; i < end; i++) {
+            accumulator = reducer.applyAsLong(accumulator, elements[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Returns the sum of the elements. Like regular {@code long} arithmetic, it silently overflows.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public long sum() {
+        long sum = 0;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with its smallest element.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Long> min() {
+        if (size == 0) {
+            return IOption.none();
+        }
+        long min = elements[offset];
+        for (int i = offset + 1, end = offset + size; i < end; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return IOption.some(min);
+    }
+
+    /**
+     * @return {@link IOption.None} if the list is empty. Otherwise, an {@link IOption.Some} with its largest element.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IOption<Long> max() {
+        if (size == 0) {
+            return IOption.none();
+        }
+        long max = elements[offset];
+        for (int i = offset + 1, end = offset + size; i < end; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return IOption.some(max);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public boolean contains(long e) {
+        return indexOf(e) != -1;
+    }
+
+    /**
+     * @return The index of the first element equal to the argument, or -1 if no elements are equal to it.
+     *
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public int indexOf(long e) {
+        for (int i = 0; i < size; i++) {
+            if (elements[offset + i] == e) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new list with the elements sorted in ascending order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ILongList sorted() {
+        long[] rs = toArray();
+        Arrays.sort(rs);
+        return ofTrustedArray(rs, size);
+    }
+
+    /**
+     * Creates a new list containing the elements of a range. This takes constant time: the new list shares the
+     * elements of this one.
+     *
+     * @param fromIndex starting endpoint (inclusive) of the subList
+     * @param toIndex ending endpoint (exclusive) of the subList
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ILongList subList(int fromIndex, int toIndex) {
+        IList.subListRangeCheck(fromIndex, toIndex, size);
+
+        if (fromIndex == toIndex) {
+            return EMPTY_ILONGLIST;
+        }
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+        return new ILongList(elements, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a new array containing the elements of the list.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public long[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + size);
+    }
+
+    /**
+     * Returns an {@link IList} with the elements of this list, boxed.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IList<Long> boxed() {
+        IList.Builder<Long> rs = IList.builder(size);
+        for (int i = 0; i < size; i++) {
+            rs.add(elements[offset + i]);
+        }
+        return rs.build();
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ILongList that = (ILongList) o;
+        if (size != that.size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (elements[offset + i] != that.elements[that.offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the same hash code as {@link #boxed()}.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            hashCode = 31 * hashCode + (int) (elements[i] ^ (elements[i] >>> 32));
+        }
+        return hashCode;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @Override
+    @Contract(pure = true)
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
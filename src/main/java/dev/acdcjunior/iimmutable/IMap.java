@@ -237,9 +237,184 @@ public class IMap<K, V> {
         return mapOf(IList.listOf(entries).filterNonNull());
     }
 
+    /**
+     * Creates a map that takes ownership of {@code map}, which must not be changed afterwards.
+     */
+    @NotNull
+    static <K, V> IMap<K, V> ofTrustedMap(@NotNull Map<K, V> map) {
+        return new IMap<K, V>(map);
+    }
+
+    /**
+     * Creates a builder, to accumulate entries and then create a map with all of them at once.
+     *
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<K, V>(null, new LinkedHashMap<K, V>());
+    }
+
+    /**
+     * Creates a builder, to accumulate entries and then create a map with all of them at once.
+     *
+     * @param expectedSize How many entries are expected to be put. The builder can take more or fewer than that.
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <K, V> Builder<K, V> builder(int expectedSize) {
+        return new Builder<K, V>(null, new LinkedHashMap<K, V>(capacityFor(expectedSize)));
+    }
+
+    /**
+     * Initial capacity of a {@link java.util.HashMap} that takes {@code expectedSize} entries without rehashing.
+     */
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative: " + expectedSize);
+        }
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    /**
+     * Accumulates entries to create an {@link IMap}. Putting an entry takes constant time, as opposed to
+     * {@link IMap#put(Object, Object)}, which copies the whole map.
+     *
+     * <p>Builders are not thread-safe.</p>
+     *
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     *
+     * @see IMap#builder()
+     * @see IMap#toBuilder()
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder<K, V> {
+
+        /**
+         * The map this builder was created from or last built, if nothing was put since.
+         */
+        @Nullable
+        private IMap<K, V> built;
+
+        /**
+         * The entries being put. Only created at the first put after {@link #built} is set, as it must be a copy.
+         */
+        @Nullable
+        private Map<K, V> map;
+
+        /**
+         * Hash code of the map being built, kept up to date at every put while {@link #hashCodeKnown}.
+         */
+        private int hashCode;
+
+        private boolean hashCodeKnown;
+
+        private Builder(@Nullable IMap<K, V> built, @Nullable Map<K, V> map) {
+            this.built = built;
+            this.map = map;
+            this.hashCodeKnown = built != null && built.isHashCodeKnown();
+            this.hashCode = built == null ? 0 : built.hashCode;
+        }
+
+        @NotNull
+        @SuppressWarnings("ConstantConditions")
+        private Map<K, V> map() {
+            if (map == null) {
+                map = built.toMutableMap();
+                built = null;
+            }
+            return map;
+        }
+
+        /**
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<K, V> put(K key, V value) {
+            Map<K, V> map = map();
+            if (hashCodeKnown) {
+                if (map.containsKey(key)) {
+                    hashCode -= entryHashCode(key, map.get(key));
+                }
+                hashCode += entryHashCode(key, value);
+            }
+            map.put(key, value);
+            return this;
+        }
+
+        /**
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<K, V> putAll(@NotNull IMap<? extends K, ? extends V> other) {
+            for (Map.Entry<? extends K, ? extends V> entry : other.immutableBackingMap.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * @return How many entries the map created by {@link #build()} would have.
+         *
+         * @since 1.0.0
+         */
+        @Contract(pure = true)
+        @SuppressWarnings("ConstantConditions")
+        public int size() {
+            return map != null ? map.size() : built.immutableBackingMap.size();
+        }
+
+        /**
+         * Creates a map with all the entries put so far. The builder doesn't copy its entries to do so: the map takes
+         * ownership of them. The builder can still be used afterwards, without affecting the map.
+         *
+         * @since 1.0.0
+         */
+        @NotNull
+        @SuppressWarnings("ConstantConditions")
+        public IMap<K, V> build() {
+            if (map != null) {
+                built = new IMap<K, V>(map);
+                if (hashCodeKnown) {
+                    built.hashCode = hashCode;
+                }
+                map = null;
+            }
+            return built;
+        }
+
+    }
+
+    /**
+     * Creates a builder that starts with the entries of this map. They are only copied when the first entry is put.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Builder<K, V> toBuilder() {
+        return new Builder<K, V>(this, null);
+    }
+
     @NotNull
     private final Map<K, V> immutableBackingMap;
 
+    /**
+     * Cached {@link #hashCode()}, or 0 if not computed yet. Maps created from this one derive their hash code from it
+     * when it is known, adding and subtracting the hash codes of the entries that changed.
+     */
+    private int hashCode;
+
     private IMap(@NotNull Map<K, V> immutableBackingMap) {
         this.immutableBackingMap = Collections.unmodifiableMap(immutableBackingMap);
     }
@@ -253,6 +428,8 @@ public class IMap<K, V> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         IMap<?, ?> iMap = (IMap<?, ?>) o;
+        if (immutableBackingMap.size() != iMap.immutableBackingMap.size()) return false;
+        if (hashCode != 0 && iMap.hashCode != 0 && hashCode != iMap.hashCode) return false;
         return immutableBackingMap.equals(iMap.immutableBackingMap);
     }
 
@@ -262,7 +439,28 @@ public class IMap<K, V> {
     @Override
     @Contract(pure = true)
     public int hashCode() {
-        return immutableBackingMap.hashCode();
+        int h = hashCode;
+        if (h == 0) {
+            h = immutableBackingMap.hashCode();
+            hashCode = h;
+        }
+        return h;
+    }
+
+    /**
+     * @return If {@link #hashCode} holds the hash code of this map. It is only known once {@link #hashCode()} was
+     * called on this map or one it was derived from, so that maps nobody hashes never hash their entries; an empty
+     * map counts as unknown too, or every map put together from it would.
+     */
+    private boolean isHashCodeKnown() {
+        return hashCode != 0;
+    }
+
+    /**
+     * The hash code of a {@link Map} is the sum of the hash codes of its entries, which are computed like this.
+     */
+    private static int entryHashCode(@Nullable Object key, @Nullable Object value) {
+        return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
     }
 
     /**
@@ -299,8 +497,13 @@ public class IMap<K, V> {
     @Contract(pure = true)
     public <L extends K, U extends V> IMap<K, V> put(L key, U value) {
         Map<K, V> copy = toMutableMap();
-        copy.put(key, value);
-        return new IMap<K, V>(copy);
+        boolean replaced = copy.containsKey(key);
+        V previous = copy.put(key, value);
+        IMap<K, V> map = new IMap<K, V>(copy);
+        if (isHashCodeKnown()) {
+            map.hashCode = hashCode - (replaced ? entryHashCode(key, previous) : 0) + entryHashCode(key, value);
+        }
+        return map;
     }
 
     /**
@@ -4,6 +4,7 @@ import dev.acdcjunior.iimmutable.fn.ICommand;
 import dev.acdcjunior.iimmutable.fn.IConsumer;
 import dev.acdcjunior.iimmutable.fn.IFunction;
 import dev.acdcjunior.iimmutable.fn.ISupplier;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -148,7 +149,8 @@ public abstract class IOption<T> implements Iterable<T> {
         if (value == null) {
             throw new IllegalArgumentException("Argument of IOption.Some cannot be null");
         }
-        return new Some<R>(value);
+        IOption<R> cached = SomeCache.get(value);
+        return cached != null ? cached : new Some<R>(value);
     }
 
     /**
@@ -184,6 +186,106 @@ public abstract class IOption<T> implements Iterable<T> {
     @NotNull
     public abstract <L> IEither<L, T> toEither(ISupplier<L> ifNone);
 
+    /**
+     * Stack-safe {@link #flatMap(IFunction)}: returns a computation that, when run, is {@link None} if this is, or
+     * the computation {@code fn} returns for the value of this {@link Some}. {@code fn} is only called when the
+     * computation is run.
+     *
+     * @see IEval
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> IEval<IOption<R>> flatMapEval(@NotNull final IFunction<? super T, ? extends IEval<IOption<R>>> fn) {
+        if (isEmpty()) {
+            return IEval.now(IOption.<R>none());
+        }
+        final T value = get();
+        return IEval.defer(new ISupplier<IEval<IOption<R>>>() {
+            @Override
+            public IEval<IOption<R>> get() {
+                return fn.apply(value);
+            }
+        });
+    }
+
+    /**
+     * Turns a list of options into an option of a list: {@link None} if any element of {@code options} is
+     * {@link None} (the elements after it are not looked at), or a {@link Some} of the values of all of them.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IOption<IList<T>> sequence(@NotNull IList<? extends IOption<? extends T>> options) {
+        IList.Builder<T> values = IList.builder(options.size());
+        for (IOption<? extends T> option : options) {
+            if (option.isEmpty()) {
+                return none();
+            }
+            values.add(option.get());
+        }
+        return some(values.build());
+    }
+
+    /**
+     * Applies {@code fn} to each element of {@code ls}, in order, stopping at the first {@link None} it returns. If
+     * there is none, returns a {@link Some} of all the values {@code fn} returned.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T, R> IOption<IList<R>> traverse(@NotNull IList<T> ls, @NotNull IFunction<? super T, ? extends IOption<? extends R>> fn) {
+        IList.Builder<R> values = IList.builder(ls.size());
+        for (T t : ls) {
+            IOption<? extends R> option = fn.apply(t);
+            if (option.isEmpty()) {
+                return none();
+            }
+            values.add(option.get());
+        }
+        return some(values.build());
+    }
+
+    /**
+     * Shared {@link Some} instances for {@link Boolean}s and for {@link Integer}s in the range
+     * {@link Integer#valueOf(int)} caches. Their value is the canonical instance, not necessarily the one passed to
+     * {@link #some(Object)}.
+     */
+    private static final class SomeCache {
+
+        private static final int LOW = -128;
+        private static final int HIGH = 127;
+
+        private static final Some<Boolean> TRUE = new Some<Boolean>(Boolean.TRUE);
+        private static final Some<Boolean> FALSE = new Some<Boolean>(Boolean.FALSE);
+        private static final Some<?>[] INTEGERS = new Some<?>[HIGH - LOW + 1];
+
+        static {
+            for (int i = 0; i < INTEGERS.length; i++) {
+                INTEGERS[i] = new Some<Integer>(i + LOW);
+            }
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        static <R> IOption<R> get(@NotNull R value) {
+            Class<?> type = value.getClass();
+            if (type == Boolean.class) {
+                return (IOption<R>) ((Boolean) value ? TRUE : FALSE);
+            }
+            if (type == Integer.class) {
+                int i = (Integer) value;
+                if (i >= LOW && i <= HIGH) {
+                    return (IOption<R>) INTEGERS[i - LOW];
+                }
+            }
+            return null;
+        }
+
+    }
+
     /**
      * @since 1.0.0
      */
@@ -328,7 +430,7 @@ public abstract class IOption<T> implements Iterable<T> {
         @NotNull
         @Override
         public IOption<T> filter(@NotNull IFunction<? super T, Boolean> fn) {
-            return Boolean.TRUE.equals(this.map(fn).orNull()) ? this : IOption.<T>none();
+            return Boolean.TRUE.equals(fn.apply(value)) ? this : IOption.<T>none();
         }
 
         /**
@@ -336,8 +438,13 @@ public abstract class IOption<T> implements Iterable<T> {
          */
         @NotNull
         @Override
+        @SuppressWarnings("unchecked")
         public <R> IOption<R> map(@NotNull IFunction<? super T, R> fn) {
-            return ofNullable(fn.apply(this.orNull()));
+            R mapped = fn.apply(value);
+            if (mapped == value) {
+                return (IOption<R>) this;
+            }
+            return ofNullable(mapped);
         }
 
         /**
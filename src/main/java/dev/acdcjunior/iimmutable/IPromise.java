@@ -0,0 +1,96 @@
+package dev.acdcjunior.iimmutable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+
+
+/**
+ * The writing side of an {@link IFuture}: completes it, once, with a value or a failure.
+ *
+ * @param <T> The type of the value of the future.
+ *
+ * @since 1.0.0
+ */
+public final class IPromise<T> {
+
+    @NotNull
+    private final IFuture<T> future;
+
+    private IPromise(@NotNull Executor executor) {
+        this.future = new IFuture<T>(executor);
+    }
+
+    /**
+     * Creates a promise whose future runs its callbacks in the thread that completes it.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IPromise<T> promise() {
+        return new IPromise<T>(IFuture.SAME_THREAD);
+    }
+
+    /**
+     * Creates a promise whose future runs its callbacks on {@code executor}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> IPromise<T> promise(@NotNull Executor executor) {
+        return new IPromise<T>(executor);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    public IFuture<T> future() {
+        return future;
+    }
+
+    /**
+     * @return {@code false} if the future was already completed.
+     *
+     * @since 1.0.0
+     */
+    public boolean trySuccess(@Nullable T value) {
+        return future.trySucceed(value);
+    }
+
+    /**
+     * @return {@code false} if the future was already completed.
+     *
+     * @since 1.0.0
+     */
+    public boolean tryFailure(@NotNull Throwable failure) {
+        return future.tryFail(failure);
+    }
+
+    /**
+     * @throws IllegalStateException if the future was already completed.
+     *
+     * @since 1.0.0
+     */
+    public void success(@Nullable T value) {
+        if (!trySuccess(value)) {
+            throw new IllegalStateException("IPromise was already completed");
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the future was already completed.
+     *
+     * @since 1.0.0
+     */
+    public void failure(@NotNull Throwable failure) {
+        if (!tryFailure(failure)) {
+            throw new IllegalStateException("IPromise was already completed");
+        }
+    }
+
+}
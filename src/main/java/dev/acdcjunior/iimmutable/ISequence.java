@@ -0,0 +1,445 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IConsumer;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IPredicate;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * A lazy, possibly infinite, sequence of elements.
+ *
+ * <p>Unlike {@link IListView}, elements are pulled one at a time through {@link #iterator()}: each operation only asks
+ * the one before it for as many elements as it needs, and nothing is kept besides the current element (and the
+ * current chunk, for {@link #chunked(int)}). This makes it fit for unbounded or very large sources, such as
+ * {@link #generate(ISupplier)} and {@link #iterate(Object, IFunction)}, as long as they are bounded (e.g. with
+ * {@link #take(int)} or {@link #takeWhile(IPredicate)}) before calling {@link #toIList()}.</p>
+ *
+ * <p>Sequences are not cached: every iteration goes over the source again.</p>
+ *
+ * @param <T> The type of the elements of the sequence.
+ *
+ * @since 1.0.0
+ */
+public abstract class ISequence<T> implements Iterable<T> {
+
+    private static final int MAX_INITIAL_CHUNK_CAPACITY = 1024;
+
+    @SuppressWarnings("rawtypes")
+    private static final ISequence EMPTY_SEQUENCE = new ISequence() {
+        @NotNull
+        @Override
+        public Iterator iterator() {
+            return Collections.emptyList().iterator();
+        }
+    };
+
+    ISequence() {
+    }
+
+    /**
+     * An iterator that can't remove elements.
+     */
+    private abstract static class ReadOnlyIterator<T> implements Iterator<T> {
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("ISequence iterators can't remove elements");
+        }
+    }
+
+    /**
+     * An iterator that finds its next element in {@link #computeNext()}, only when asked for it.
+     */
+    private abstract static class LookaheadIterator<T> extends ReadOnlyIterator<T> {
+
+        private T next;
+        private boolean ready = false;
+        private boolean done = false;
+
+        /**
+         * Calls {@link #found(Object)} with the next element and returns {@code true}, or returns {@code false} if
+         * there are no more elements.
+         */
+        abstract boolean computeNext();
+
+        final boolean found(T t) {
+            this.next = t;
+            return true;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            if (!ready && !done) {
+                if (computeNext()) {
+                    ready = true;
+                } else {
+                    done = true;
+                }
+            }
+            return ready;
+        }
+
+        @Override
+        public final T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T t = next;
+            next = null;
+            ready = false;
+            return t;
+        }
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public static <T> ISequence<T> emptySequence() {
+        return (ISequence<T>) EMPTY_SEQUENCE;
+    }
+
+    /**
+     * Returns a sequence of the elements of {@code iterable}. It is iterated again every time the sequence is.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> ISequence<T> sequenceOf(@NotNull final Iterable<? extends T> iterable) {
+        return new ISequence<T>() {
+            @NotNull
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<? extends T> source = iterable.iterator();
+                return new ReadOnlyIterator<T>() {
+                    @Override
+                    public boolean hasNext() {
+                        return source.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        return source.next();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns an infinite sequence whose elements are obtained by calling {@code supplier}, once per element pulled.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> ISequence<T> generate(@NotNull final ISupplier<? extends T> supplier) {
+        return new ISequence<T>() {
+            @NotNull
+            @Override
+            public Iterator<T> iterator() {
+                return new ReadOnlyIterator<T>() {
+                    @Override
+                    public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override
+                    public T next() {
+                        return supplier.get();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns an infinite sequence of {@code seed}, {@code next(seed)}, {@code next(next(seed))}, and so on.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> ISequence<T> iterate(final T seed, @NotNull final IFunction<? super T, ? extends T> next) {
+        return new ISequence<T>() {
+            @NotNull
+            @Override
+            public Iterator<T> iterator() {
+                return new ReadOnlyIterator<T>() {
+                    private T current = seed;
+                    private boolean started = false;
+
+                    @Override
+                    public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override
+                    public T next() {
+                        if (started) {
+                            current = next.apply(current);
+                        }
+                        started = true;
+                        return current;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> ISequence<R> map(@NotNull final IFunction<? super T, ? extends R> mapper) {
+        return new ISequence<R>() {
+            @NotNull
+            @Override
+            public Iterator<R> iterator() {
+                final Iterator<T> source = ISequence.this.iterator();
+                return new ReadOnlyIterator<R>() {
+                    @Override
+                    public boolean hasNext() {
+                        return source.hasNext();
+                    }
+
+                    @Override
+                    public R next() {
+                        return mapper.apply(source.next());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ISequence<T> filter(@NotNull final IPredicate<? super T> predicate) {
+        return new ISequence<T>() {
+            @NotNull
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<T> source = ISequence.this.iterator();
+                return new LookaheadIterator<T>() {
+                    @Override
+                    boolean computeNext() {
+                        while (source.hasNext()) {
+                            T t = source.next();
+                            if (predicate.test(t)) {
+                                return found(t);
+                            }
+                        }
+                        return false;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <R> ISequence<R> flatMap(@NotNull final IFunction<? super T, ? extends Iterable<? extends R>> mapper) {
+        return new ISequence<R>() {
+            @NotNull
+            @Override
+            public Iterator<R> iterator() {
+                final Iterator<T> source = ISequence.this.iterator();
+                return new LookaheadIterator<R>() {
+                    private Iterator<? extends R> current = Collections.<R>emptyList().iterator();
+
+                    @Override
+                    boolean computeNext() {
+                        while (!current.hasNext()) {
+                            if (!source.hasNext()) {
+                                return false;
+                            }
+                            current = mapper.apply(source.next()).iterator();
+                        }
+                        return found(current.next());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a sequence of the first {@code n} elements of this sequence. No elements past them are pulled.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ISequence<T> take(final int n) {
+        checkCount(n, "take");
+        return new ISequence<T>() {
+            @NotNull
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<T> source = ISequence.this.iterator();
+                return new ReadOnlyIterator<T>() {
+                    private int remaining = n;
+
+                    @Override
+                    public boolean hasNext() {
+                        return remaining > 0 && source.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        if (remaining <= 0) {
+                            throw new NoSuchElementException();
+                        }
+                        remaining--;
+                        return source.next();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a sequence of all but the first {@code n} elements of this sequence.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ISequence<T> drop(final int n) {
+        checkCount(n, "drop");
+        return new ISequence<T>() {
+            @NotNull
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<T> source = ISequence.this.iterator();
+                return new LookaheadIterator<T>() {
+                    private int remaining = n;
+
+                    @Override
+                    boolean computeNext() {
+                        while (remaining > 0 && source.hasNext()) {
+                            source.next();
+                            remaining--;
+                        }
+                        return source.hasNext() && found(source.next());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a sequence of the elements of this sequence up to (not including) the first one that doesn't match
+     * {@code predicate}. No elements past that one are pulled.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ISequence<T> takeWhile(@NotNull final IPredicate<? super T> predicate) {
+        return new ISequence<T>() {
+            @NotNull
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<T> source = ISequence.this.iterator();
+                return new LookaheadIterator<T>() {
+                    @Override
+                    boolean computeNext() {
+                        if (!source.hasNext()) {
+                            return false;
+                        }
+                        T t = source.next();
+                        return predicate.test(t) && found(t);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a sequence of lists of {@code size} consecutive elements of this sequence. The last list has fewer
+     * elements if there aren't enough to fill it. Only one list is being filled at a time.
+     *
+     * @throws IllegalArgumentException if {@code size} is not positive.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ISequence<IList<T>> chunked(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(String.format("Cannot `chunked(%d)`: size must be greater than zero", size));
+        }
+        return new ISequence<IList<T>>() {
+            @NotNull
+            @Override
+            public Iterator<IList<T>> iterator() {
+                final Iterator<T> source = ISequence.this.iterator();
+                return new ReadOnlyIterator<IList<T>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return source.hasNext();
+                    }
+
+                    @Override
+                    public IList<T> next() {
+                        if (!source.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        IList.Builder<T> chunk = IList.builder(Math.min(size, MAX_INITIAL_CHUNK_CAPACITY));
+                        for (int count = 0; count < size && source.hasNext(); count++) {
+                            chunk.add(source.next());
+                        }
+                        return chunk.build();
+                    }
+                };
+            }
+        };
+    }
+
+    private static void checkCount(int n, String operation) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format("Cannot `%s(%d)`: count must be equal to or greater than zero", operation, n));
+        }
+    }
+
+    /**
+     * Pulls all elements of this sequence into a new list. Never returns if the sequence is infinite.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public IList<T> toIList() {
+        return IList.listOf(iterator());
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public void forEach(@NotNull IConsumer<? super T> consumer) {
+        for (T t : this) {
+            consumer.accept(t);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package dev.acdcjunior.iimmutable;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -21,6 +22,12 @@ public class ISet<T> {
 
     private final Set<T> immutableBackingSet;
 
+    /**
+     * Cached {@link #hashCode()}, or 0 if not computed yet. Builders created from this set derive their hash code from
+     * it only when it is known, so sets nobody hashes never hash their elements.
+     */
+    private int hashCode;
+
     /**
      * @since 1.0.0
      */
@@ -34,6 +41,154 @@ public class ISet<T> {
         immutableBackingSet = Collections.unmodifiableSet(new HashSet<T>(elements.toList()));
     }
 
+    private ISet(@NotNull Set<T> backingSet) {
+        immutableBackingSet = Collections.unmodifiableSet(backingSet);
+    }
+
+    /**
+     * Creates a builder, to accumulate elements and then create a set with all of them at once.
+     *
+     * @param <T> The type of the elements.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> Builder<T> builder() {
+        return new Builder<T>(null, new HashSet<T>());
+    }
+
+    /**
+     * Creates a builder, to accumulate elements and then create a set with all of them at once.
+     *
+     * @param expectedSize How many elements are expected to be added. The builder can take more or fewer than that.
+     * @param <T> The type of the elements.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> Builder<T> builder(int expectedSize) {
+        return new Builder<T>(null, new HashSet<T>(IMap.capacityFor(expectedSize)));
+    }
+
+    /**
+     * Accumulates elements to create an {@link ISet}.
+     *
+     * <p>Builders are not thread-safe.</p>
+     *
+     * @param <T> The type of the elements.
+     *
+     * @see ISet#builder()
+     * @see ISet#toBuilder()
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder<T> {
+
+        /**
+         * The set this builder was created from or last built, if nothing was added since.
+         */
+        @Nullable
+        private ISet<T> built;
+
+        /**
+         * The elements being added. Only created at the first add after {@link #built} is set, as it must be a copy.
+         */
+        @Nullable
+        private Set<T> set;
+
+        /**
+         * Hash code of the set being built (the sum of the hash codes of its elements), kept up to date at every add
+         * while {@link #hashCodeKnown}.
+         */
+        private int hashCode;
+
+        private boolean hashCodeKnown;
+
+        private Builder(@Nullable ISet<T> built, @Nullable Set<T> set) {
+            this.built = built;
+            this.set = set;
+            this.hashCodeKnown = built != null && built.hashCode != 0;
+            this.hashCode = built == null ? 0 : built.hashCode;
+        }
+
+        @NotNull
+        @SuppressWarnings("ConstantConditions")
+        private Set<T> set() {
+            if (set == null) {
+                set = built.toMutableSet();
+                built = null;
+            }
+            return set;
+        }
+
+        /**
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> add(T e) {
+            if (set().add(e) && hashCodeKnown && e != null) {
+                hashCode += e.hashCode();
+            }
+            return this;
+        }
+
+        /**
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> addAll(@NotNull Iterable<? extends T> elements) {
+            for (T e : elements) {
+                add(e);
+            }
+            return this;
+        }
+
+        /**
+         * @return How many elements the set created by {@link #build()} would have.
+         *
+         * @since 1.0.0
+         */
+        @Contract(pure = true)
+        @SuppressWarnings("ConstantConditions")
+        public int size() {
+            return set != null ? set.size() : built.immutableBackingSet.size();
+        }
+
+        /**
+         * Creates a set with all the elements added so far. The builder doesn't copy its elements to do so: the set
+         * takes ownership of them. The builder can still be used afterwards, without affecting the set.
+         *
+         * @since 1.0.0
+         */
+        @NotNull
+        @SuppressWarnings("ConstantConditions")
+        public ISet<T> build() {
+            if (set != null) {
+                built = new ISet<T>(set);
+                if (hashCodeKnown) {
+                    built.hashCode = hashCode;
+                }
+                set = null;
+            }
+            return built;
+        }
+
+    }
+
+    /**
+     * Creates a builder that starts with the elements of this set. They are only copied when the first element is
+     * added.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Builder<T> toBuilder() {
+        return new Builder<T>(this, null);
+    }
+
     /**
      * Returns an immutable {@link Set} instance.
      *
@@ -66,6 +221,8 @@ public class ISet<T> {
         if (o == null || getClass() != o.getClass()) return false;
 
         ISet<?> iSet = (ISet<?>) o;
+        if (immutableBackingSet.size() != iSet.immutableBackingSet.size()) return false;
+        if (hashCode != 0 && iSet.hashCode != 0 && hashCode != iSet.hashCode) return false;
 
         return immutableBackingSet.equals(iSet.immutableBackingSet);
     }
@@ -76,7 +233,12 @@ public class ISet<T> {
     @Override
     @Contract(pure = true)
     public int hashCode() {
-        return immutableBackingSet.hashCode();
+        int h = hashCode;
+        if (h == 0) {
+            h = immutableBackingSet.hashCode();
+            hashCode = h;
+        }
+        return h;
     }
 
     /**
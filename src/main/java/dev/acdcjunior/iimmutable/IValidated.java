@@ -0,0 +1,352 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IBiFunction;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ITriFunction;
+import dev.acdcjunior.iimmutable.tuple.IPair;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * The result of a validation: either {@link Valid}, with a value, or {@link Invalid}, with one or more errors.
+ *
+ * <p>Unlike {@link IEither#flatMap(IFunction)}, which stops at the first {@link IEither.Left}, combining validations
+ * with {@link #zip(IValidated)}, {@link #map2(IValidated, IValidated, IBiFunction)},
+ * {@link #map3(IValidated, IValidated, IValidated, ITriFunction)} or {@link #validateAll(IList, IFunction)} collects
+ * the errors of all of them.</p>
+ *
+ * @param <E> type of the errors
+ * @param <T> type of the valid value
+ *
+ * @since 1.0.0
+ */
+public abstract class IValidated<E, T> {
+
+    IValidated() {
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <E, T> IValidated<E, T> valid(@NotNull T value) {
+        return new Valid<E, T>(value);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <E, T> IValidated<E, T> invalid(@NotNull E error) {
+        return new Invalid<E, T>(IList.listOf(error));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code errors} is empty.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <E, T> IValidated<E, T> invalid(@NotNull IList<E> errors) {
+        return new Invalid<E, T>(errors);
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public abstract boolean isValid();
+
+    /**
+     * @since 1.0.0
+     */
+    public boolean isInvalid() {
+        return !isValid();
+    }
+
+    /**
+     * @return The valid value.
+     * @throws IllegalStateException if this is {@link Invalid}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public abstract T get();
+
+    /**
+     * @return The errors of this validation, an empty list if it is {@link Valid}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public abstract IList<E> errors();
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    public abstract <R> IValidated<E, R> map(@NotNull IFunction<? super T, ? extends R> mapper);
+
+    /**
+     * @since 1.0.0
+     */
+    @NotNull
+    public abstract <E2> IValidated<E2, T> mapErrors(@NotNull IFunction<? super E, ? extends E2> mapper);
+
+    /**
+     * Validates the value of this, if valid, with {@code next}. Like {@link IEither#flatMap(IFunction)}, doesn't
+     * accumulate errors: meant for checks that depend on the result of previous ones.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public abstract <R> IValidated<E, R> andThen(@NotNull IFunction<? super T, ? extends IValidated<E, R>> next);
+
+    /**
+     * @return {@link IEither.Right} of the value, or {@link IEither.Left} of the errors.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public abstract IEither<IList<E>, T> toEither();
+
+    /**
+     * Returns a validation of both values, if both are valid, or of the errors of this followed by those of
+     * {@code other}.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <U> IValidated<E, IPair<T, U>> zip(@NotNull IValidated<E, ? extends U> other) {
+        if (this.isValid() && other.isValid()) {
+            return valid(IPair.<T, U>pairOf(this.get(), other.get()));
+        }
+        return invalid(this.errors().plus(other.errors()));
+    }
+
+    /**
+     * Applies {@code fn} to the values of {@code a} and {@code b} if both are valid; otherwise returns all their
+     * errors, in order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <E, A, B, R> IValidated<E, R> map2(@NotNull IValidated<E, ? extends A> a, @NotNull IValidated<E, ? extends B> b,
+                                                     @NotNull IBiFunction<? super A, ? super B, ? extends R> fn) {
+        if (a.isValid() && b.isValid()) {
+            return valid(fn.apply(a.get(), b.get()));
+        }
+        return invalid(a.errors().plus(b.errors()));
+    }
+
+    /**
+     * Applies {@code fn} to the values of {@code a}, {@code b} and {@code c} if all are valid; otherwise returns all
+     * their errors, in order.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <E, A, B, C, R> IValidated<E, R> map3(@NotNull IValidated<E, ? extends A> a, @NotNull IValidated<E, ? extends B> b,
+                                                        @NotNull IValidated<E, ? extends C> c,
+                                                        @NotNull ITriFunction<? super A, ? super B, ? super C, ? extends R> fn) {
+        if (a.isValid() && b.isValid() && c.isValid()) {
+            return valid(fn.apply(a.get(), b.get(), c.get()));
+        }
+        return invalid(a.errors().plus(b.errors(), c.errors()));
+    }
+
+    /**
+     * Validates every element of {@code ls} with {@code validator}, in a single pass. Returns a {@link Valid} list of
+     * all the values if every element is valid, or an {@link Invalid} with the errors of all invalid elements, in
+     * order. Once an invalid element is found, values are no longer kept.
+     *
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <E, T, R> IValidated<E, IList<R>> validateAll(@NotNull IList<T> ls,
+                                                                @NotNull IFunction<? super T, ? extends IValidated<? extends E, ? extends R>> validator) {
+        IList.Builder<R> values = IList.builder(ls.size());
+        IList.Builder<E> errors = null;
+        for (T t : ls) {
+            IValidated<? extends E, ? extends R> validated = validator.apply(t);
+            if (validated.isValid()) {
+                if (errors == null) {
+                    values.add(validated.get());
+                }
+            } else {
+                if (errors == null) {
+                    errors = IList.builder();
+                    values = null;
+                }
+                errors.addAll(validated.errors());
+            }
+        }
+        if (errors != null) {
+            return invalid(errors.build());
+        }
+        return valid(values.build());
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public static final class Valid<E, T> extends IValidated<E, T> {
+
+        @NotNull
+        private final T value;
+
+        @SuppressWarnings("ConstantConditions")
+        private Valid(@NotNull T value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Argument of IValidated.Valid cannot be null");
+            }
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Valid(%s)", value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Valid<?, ?> valid = (Valid<?, ?>) o;
+            return value.equals(valid.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @NotNull
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @NotNull
+        @Override
+        public IList<E> errors() {
+            return IList.emptyList();
+        }
+
+        @NotNull
+        @Override
+        public <R> IValidated<E, R> map(@NotNull IFunction<? super T, ? extends R> mapper) {
+            return valid(mapper.apply(value));
+        }
+
+        @NotNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public <E2> IValidated<E2, T> mapErrors(@NotNull IFunction<? super E, ? extends E2> mapper) {
+            return (IValidated<E2, T>) this;
+        }
+
+        @NotNull
+        @Override
+        public <R> IValidated<E, R> andThen(@NotNull IFunction<? super T, ? extends IValidated<E, R>> next) {
+            return next.apply(value);
+        }
+
+        @NotNull
+        @Override
+        public IEither<IList<E>, T> toEither() {
+            return IEither.right(value);
+        }
+
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public static final class Invalid<E, T> extends IValidated<E, T> {
+
+        @NotNull
+        private final IList<E> errors;
+
+        @SuppressWarnings("ConstantConditions")
+        private Invalid(@NotNull IList<E> errors) {
+            if (errors == null || errors.isEmpty()) {
+                throw new IllegalArgumentException("Errors of IValidated.Invalid cannot be null or empty");
+            }
+            this.errors = errors;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Invalid(%s)", errors);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Invalid<?, ?> invalid = (Invalid<?, ?>) o;
+            return errors.equals(invalid.errors);
+        }
+
+        @Override
+        public int hashCode() {
+            return errors.hashCode();
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @NotNull
+        @Override
+        public T get() {
+            throw new IllegalStateException("IValidated.Invalid has no value: " + errors);
+        }
+
+        @NotNull
+        @Override
+        public IList<E> errors() {
+            return errors;
+        }
+
+        @NotNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> IValidated<E, R> map(@NotNull IFunction<? super T, ? extends R> mapper) {
+            return (IValidated<E, R>) this;
+        }
+
+        @NotNull
+        @Override
+        public <E2> IValidated<E2, T> mapErrors(@NotNull IFunction<? super E, ? extends E2> mapper) {
+            return invalid(errors.<E2>map(mapper));
+        }
+
+        @NotNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> IValidated<E, R> andThen(@NotNull IFunction<? super T, ? extends IValidated<E, R>> next) {
+            return (IValidated<E, R>) this;
+        }
+
+        @NotNull
+        @Override
+        public IEither<IList<E>, T> toEither() {
+            return IEither.left(errors);
+        }
+
+    }
+
+}
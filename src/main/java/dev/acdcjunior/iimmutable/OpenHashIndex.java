@@ -0,0 +1,57 @@
+package dev.acdcjunior.iimmutable;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Maps each distinct element of a list to the index of its first occurrence, in arrays with linear probing (like
+ * {@link OpenHashSet}, whose sizing and hashing it shares). Immutable once created.
+ */
+final class OpenHashIndex {
+
+    private final Object[] keys;
+
+    private final int[] indexes;
+
+    OpenHashIndex(@NotNull Iterable<?> elements, int size) {
+        int capacity = OpenHashSet.capacityFor(size);
+        Object[] keys = new Object[capacity];
+        int[] indexes = new int[capacity];
+        int mask = capacity - 1;
+        int index = 0;
+        for (Object e : elements) {
+            Object key = e == null ? OpenHashSet.NULL : e;
+            int i = OpenHashSet.spread(key) & mask;
+            Object current;
+            while ((current = keys[i]) != null && current != key && !current.equals(key)) {
+                i = (i + 1) & mask;
+            }
+            if (current == null) {
+                keys[i] = key;
+                indexes[i] = index;
+            }
+            index++;
+        }
+        this.keys = keys;
+        this.indexes = indexes;
+    }
+
+    /**
+     * @return The index of the first occurrence of {@code e}, or -1 if it doesn't occur.
+     */
+    int indexOf(@Nullable Object e) {
+        Object key = e == null ? OpenHashSet.NULL : e;
+        int mask = keys.length - 1;
+        int i = OpenHashSet.spread(key) & mask;
+        Object current;
+        while ((current = keys[i]) != null) {
+            if (current == key || current.equals(key)) {
+                return indexes[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+}
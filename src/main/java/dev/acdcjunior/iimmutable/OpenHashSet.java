@@ -0,0 +1,101 @@
+package dev.acdcjunior.iimmutable;
+
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A mutable hash set that keeps its elements in a single array, probing linearly on collisions. Unlike
+ * {@link java.util.HashSet}, it doesn't allocate an entry object per element.
+ *
+ * <p>Only meant for short-lived use inside an operation. It accepts {@code null}.</p>
+ */
+final class OpenHashSet {
+
+    /**
+     * Stands for {@code null} in the table, where {@code null} marks an empty slot. Also used by {@link OpenHashIndex}.
+     */
+    static final Object NULL = new Object();
+
+    private static final int MIN_CAPACITY = 8;
+
+    private Object[] table;
+
+    private int size = 0;
+
+    /**
+     * @param expectedSize How many elements the set is expected to hold. It grows if more are added.
+     */
+    OpenHashSet(int expectedSize) {
+        this.table = new Object[capacityFor(expectedSize)];
+    }
+
+    /**
+     * Smallest power of two that keeps the table at most half full with {@code expectedSize} elements.
+     */
+    static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Mixes the high bits of the hash code into the low ones, which are the only ones masked into a slot.
+     */
+    static int spread(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return {@code true} if the element was added, {@code false} if it was already in the set.
+     */
+    boolean add(@Nullable Object e) {
+        Object key = e == null ? NULL : e;
+        int mask = table.length - 1;
+        int i = spread(key) & mask;
+        Object current;
+        while ((current = table[i]) != null) {
+            if (current == key || current.equals(key)) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+        if (++size * 2 > table.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(@Nullable Object e) {
+        Object key = e == null ? NULL : e;
+        int mask = table.length - 1;
+        int i = spread(key) & mask;
+        Object current;
+        while ((current = table[i]) != null) {
+            if (current == key || current.equals(key)) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    private void grow() {
+        Object[] old = table;
+        table = new Object[old.length * 2];
+        int mask = table.length - 1;
+        for (Object key : old) {
+            if (key != null) {
+                int i = spread(key) & mask;
+                while (table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = key;
+            }
+        }
+    }
+
+}
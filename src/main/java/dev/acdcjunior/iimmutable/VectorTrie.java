@@ -0,0 +1,476 @@
+package dev.acdcjunior.iimmutable;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+
+/**
+ * Node operations of the 32-way persistent vector trie that backs {@link IList}.
+ *
+ * <p>Leaves are {@code Object[]} holding up to {@link #WIDTH} elements. An internal node is an {@code Object[]}
+ * holding its children followed by one extra slot with its size table: {@code null} for a <em>strict</em> node,
+ * whose children are all full except the last one, or an {@code int[]} with the cumulative element count of each
+ * child for a <em>relaxed</em> node (as in relaxed radix balanced trees). Strict nodes are indexed by plain bit
+ * arithmetic; relaxed ones, which appear only after {@link #concat concatenations} and slicing, need a short scan
+ * of their size table.</p>
+ *
+ * <p>A node at shift {@code s} has children holding up to {@code 1 << s} elements each. Leaves are at shift zero.</p>
+ *
+ * <p>Nodes are never mutated after they become reachable from an {@link IList}: every update copies
+ * the path from the root to the affected leaves and shares everything else.</p>
+ */
+final class VectorTrie {
+
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+    static final int MASK = WIDTH - 1;
+
+    /**
+     * How many more nodes than the optimum a level may have after a concatenation before it gets rebalanced.
+     */
+    private static final int EXTRA_NODES = 2;
+
+    static final Object[] EMPTY_NODE = new Object[1];
+    static final Object[] EMPTY_LEAF = new Object[0];
+
+    private VectorTrie() { }
+
+    /**
+     * Index of the first element that is stored in the tail, for a freshly built list of {@code size} elements.
+     */
+    static int tailOffset(int size) {
+        if (size < WIDTH) {
+            return 0;
+        }
+        return ((size - 1) >>> BITS) << BITS;
+    }
+
+    static int childCount(@NotNull Object[] node) {
+        return node.length - 1;
+    }
+
+    /**
+     * Cumulative sizes of the children of a relaxed node, or {@code null} if the node is strict.
+     */
+    @Nullable
+    static int[] sizeTable(@NotNull Object[] node) {
+        return (int[]) node[node.length - 1];
+    }
+
+    /**
+     * Number of elements under {@code node}.
+     */
+    static int size(@NotNull Object[] node, int shift) {
+        if (shift == 0) {
+            return node.length;
+        }
+        int[] sizes = sizeTable(node);
+        if (sizes != null) {
+            return sizes[sizes.length - 1];
+        }
+        int children = childCount(node);
+        if (children == 0) {
+            return 0;
+        }
+        return ((children - 1) << shift) + size((Object[]) node[children - 1], shift - BITS);
+    }
+
+    /**
+     * Number of elements in the children of {@code node} up to, and including, the one at {@code slot}.
+     */
+    private static int sizeUpTo(@NotNull Object[] node, int shift, int slot) {
+        int[] sizes = sizeTable(node);
+        if (sizes != null) {
+            return sizes[slot];
+        }
+        if (slot < childCount(node) - 1) {
+            return (slot + 1) << shift;
+        }
+        return size(node, shift);
+    }
+
+    /**
+     * Number of elements in the children of {@code node} that come before the one at {@code slot}.
+     */
+    private static int sizeBefore(@NotNull Object[] node, int shift, int slot) {
+        if (slot == 0) {
+            return 0;
+        }
+        int[] sizes = sizeTable(node);
+        return sizes != null ? sizes[slot - 1] : slot << shift;
+    }
+
+    /**
+     * Slot of the child of {@code node} that holds the element at (node-relative) {@code index}.
+     */
+    private static int slotFor(@NotNull Object[] node, int shift, int index) {
+        int slot = index >>> shift;
+        int[] sizes = sizeTable(node);
+        if (sizes != null) {
+            while (sizes[slot] <= index) {
+                slot++;
+            }
+        }
+        return slot;
+    }
+
+    static Object get(@NotNull Object[] root, int shift, int index) {
+        Object[] node = root;
+        int i = index;
+        for (int level = shift; level > 0; level -= BITS) {
+            int slot = slotFor(node, level, i);
+            i -= sizeBefore(node, level, slot);
+            node = (Object[]) node[slot];
+        }
+        return node[i];
+    }
+
+    /**
+     * Leaf that holds the element at {@code index}.
+     *
+     * @param indexInLeaf Receives, at its position zero, the position of the element in the returned leaf.
+     */
+    @NotNull
+    static Object[] leafFor(@NotNull Object[] root, int shift, int index, @NotNull int[] indexInLeaf) {
+        Object[] node = root;
+        int i = index;
+        for (int level = shift; level > 0; level -= BITS) {
+            int slot = slotFor(node, level, i);
+            i -= sizeBefore(node, level, slot);
+            node = (Object[]) node[slot];
+        }
+        indexInLeaf[0] = i;
+        return node;
+    }
+
+    /**
+     * Copies all elements under {@code node} into {@code dest}, starting at {@code destPos}.
+     *
+     * @return The position in {@code dest} right after the last copied element.
+     */
+    static int copyTo(@NotNull Object[] node, int shift, @NotNull Object[] dest, int destPos) {
+        if (shift == 0) {
+            System.arraycopy(node, 0, dest, destPos, node.length);
+            return destPos + node.length;
+        }
+        int pos = destPos;
+        for (int i = 0, children = childCount(node); i < children; i++) {
+            pos = copyTo((Object[]) node[i], shift - BITS, dest, pos);
+        }
+        return pos;
+    }
+
+    /**
+     * Path-copies {@code node}, replacing the element at {@code index} with {@code e}.
+     */
+    @NotNull
+    static Object[] set(@NotNull Object[] node, int shift, int index, Object e) {
+        Object[] copy = node.clone();
+        if (shift == 0) {
+            copy[index] = e;
+        } else {
+            int slot = slotFor(node, shift, index);
+            copy[slot] = set((Object[]) node[slot], shift - BITS, index - sizeBefore(node, shift, slot), e);
+        }
+        return copy;
+    }
+
+    /**
+     * Path-copies {@code node}, placing {@code leaf} right after its last leaf.
+     *
+     * @return The new node, or {@code null} if there is no room left under {@code node}.
+     */
+    @Nullable
+    static Object[] appendLeaf(@NotNull Object[] node, int shift, @NotNull Object[] leaf) {
+        int children = childCount(node);
+        int[] sizes = sizeTable(node);
+        if (shift > BITS && children > 0) {
+            Object[] newLast = appendLeaf((Object[]) node[children - 1], shift - BITS, leaf);
+            if (newLast != null) {
+                Object[] copy = node.clone();
+                copy[children - 1] = newLast;
+                if (sizes != null) {
+                    int[] newSizes = sizes.clone();
+                    newSizes[children - 1] += leaf.length;
+                    copy[children] = newSizes;
+                }
+                return copy;
+            }
+        }
+        if (children == WIDTH) {
+            return null;
+        }
+        Object[] copy = Arrays.copyOf(node, children + 2);
+        copy[children] = newPath(shift - BITS, leaf);
+        copy[children + 1] = null;
+        if (sizes != null || (children > 0 && size(node, shift) != children << shift)) {
+            int[] newSizes = new int[children + 1];
+            for (int i = 0; i < children; i++) {
+                newSizes[i] = sizeUpTo(node, shift, i);
+            }
+            newSizes[children] = newSizes[children - 1] + leaf.length;
+            copy[children + 1] = newSizes;
+        }
+        return copy;
+    }
+
+    /**
+     * Wraps {@code leaf} in as many single-child nodes as needed for it to sit under a node at {@code shift}.
+     */
+    @NotNull
+    static Object[] newPath(int shift, @NotNull Object[] leaf) {
+        Object[] node = leaf;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = new Object[] { node, null };
+        }
+        return node;
+    }
+
+    /**
+     * Creates a node at {@code shift} with the given children, computing its size table if it is not strict.
+     */
+    @NotNull
+    private static Object[] node(@NotNull Object[] children, int from, int to, int shift) {
+        int count = to - from;
+        Object[] node = new Object[count + 1];
+        System.arraycopy(children, from, node, 0, count);
+        int full = 1 << shift;
+        boolean strict = true;
+        int[] sizes = new int[count];
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            int childSize = size((Object[]) node[i], shift - BITS);
+            strict &= i == count - 1 || childSize == full;
+            total += childSize;
+            sizes[i] = total;
+        }
+        node[count] = strict ? null : sizes;
+        return node;
+    }
+
+    /**
+     * Shift of the root of a trie that holds {@code leafCount} full leaves.
+     */
+    static int shiftFor(int leafCount) {
+        int shift = BITS;
+        for (int capacity = WIDTH; leafCount > capacity; capacity <<= BITS) {
+            shift += BITS;
+        }
+        return shift;
+    }
+
+    /**
+     * Groups the first {@code leafCount} full {@code leaves} into a trie, bottom-up.
+     *
+     * @return The root of the trie, whose shift is {@link #shiftFor(int) shiftFor(leafCount)}.
+     */
+    @NotNull
+    static Object[] buildTree(@NotNull Object[] leaves, int leafCount) {
+        Object[] nodes = leaves;
+        int count = leafCount;
+        while (count > WIDTH) {
+            int parentCount = (count + MASK) >>> BITS;
+            Object[] parents = new Object[parentCount];
+            for (int i = 0; i < parentCount; i++) {
+                int from = i << BITS;
+                Object[] parent = new Object[Math.min(count - from, WIDTH) + 1];
+                System.arraycopy(nodes, from, parent, 0, parent.length - 1);
+                parents[i] = parent;
+            }
+            nodes = parents;
+            count = parentCount;
+        }
+        Object[] root = new Object[count + 1];
+        System.arraycopy(nodes, 0, root, 0, count);
+        return root;
+    }
+
+    /**
+     * Keeps only the first {@code count} elements under {@code node}, which must be at least one.
+     */
+    @NotNull
+    static Object[] takeFront(@NotNull Object[] node, int shift, int count) {
+        if (shift == 0) {
+            return count == node.length ? node : Arrays.copyOf(node, count);
+        }
+        int slot = slotFor(node, shift, count - 1);
+        Object[] child = (Object[]) node[slot];
+        Object[] newChild = takeFront(child, shift - BITS, count - sizeBefore(node, shift, slot));
+        if (slot == childCount(node) - 1 && newChild == child) {
+            return node;
+        }
+        Object[] copy = new Object[slot + 2];
+        System.arraycopy(node, 0, copy, 0, slot);
+        copy[slot] = newChild;
+        int[] sizes = sizeTable(node);
+        if (sizes != null) {
+            int[] newSizes = Arrays.copyOf(sizes, slot + 1);
+            newSizes[slot] = count;
+            copy[slot + 1] = newSizes;
+        }
+        return copy;
+    }
+
+    /**
+     * Drops the first {@code count} elements under {@code node}, which must hold more than that.
+     */
+    @NotNull
+    static Object[] dropFront(@NotNull Object[] node, int shift, int count) {
+        if (count == 0) {
+            return node;
+        }
+        if (shift == 0) {
+            return Arrays.copyOfRange(node, count, node.length);
+        }
+        int slot = slotFor(node, shift, count);
+        Object[] newChild = dropFront((Object[]) node[slot], shift - BITS, count - sizeBefore(node, shift, slot));
+        int newChildren = childCount(node) - slot;
+        Object[] copy = new Object[newChildren + 1];
+        copy[0] = newChild;
+        System.arraycopy(node, slot + 1, copy, 1, newChildren - 1);
+        if (newChildren > 1) {
+            int[] newSizes = new int[newChildren];
+            for (int i = 0; i < newChildren; i++) {
+                newSizes[i] = sizeUpTo(node, shift, slot + i) - count;
+            }
+            copy[newChildren] = newSizes;
+        }
+        return copy;
+    }
+
+    /**
+     * Concatenates two non-empty tries, sharing all nodes but the ones along the seam between them, and
+     * rebalancing these just enough to keep lookups logarithmic.
+     *
+     * @return The root of the new trie, at shift {@code max(leftShift, rightShift) + BITS}. It has one or two children.
+     */
+    @NotNull
+    static Object[] concat(@NotNull Object[] left, int leftShift, @NotNull Object[] right, int rightShift) {
+        if (leftShift > rightShift) {
+            Object[] mid = concat((Object[]) left[childCount(left) - 1], leftShift - BITS, right, rightShift);
+            return rebalance(left, mid, null, leftShift);
+        }
+        if (leftShift < rightShift) {
+            Object[] mid = concat(left, leftShift, (Object[]) right[0], rightShift - BITS);
+            return rebalance(null, mid, right, rightShift);
+        }
+        if (leftShift == 0) {
+            return node(new Object[] { left, right }, 0, 2, BITS);
+        }
+        Object[] mid = concat((Object[]) left[childCount(left) - 1], leftShift - BITS, (Object[]) right[0], rightShift - BITS);
+        return rebalance(left, mid, right, leftShift);
+    }
+
+    /**
+     * Merges the children of {@code left} (but its last), of {@code mid} and of {@code right} (but its first), all
+     * of them nodes at {@code shift}, redistributing the children as needed.
+     *
+     * @return A node at {@code shift + BITS} with one or two children.
+     */
+    @NotNull
+    private static Object[] rebalance(@Nullable Object[] left, @NotNull Object[] mid, @Nullable Object[] right, int shift) {
+        int leftCount = left == null ? 0 : childCount(left) - 1;
+        int midCount = childCount(mid);
+        int rightCount = right == null ? 0 : childCount(right) - 1;
+        Object[] all = new Object[leftCount + midCount + rightCount];
+        if (left != null) {
+            System.arraycopy(left, 0, all, 0, leftCount);
+        }
+        System.arraycopy(mid, 0, all, leftCount, midCount);
+        if (right != null) {
+            System.arraycopy(right, 1, all, leftCount + midCount, rightCount);
+        }
+
+        int childShift = shift - BITS;
+        int[] slots = new int[all.length];
+        for (int i = 0; i < all.length; i++) {
+            slots[i] = slotCount((Object[]) all[i], childShift);
+        }
+        Object[] children = redistribute(all, concatPlan(slots), childShift);
+
+        if (children.length <= WIDTH) {
+            return node(new Object[] { node(children, 0, children.length, shift) }, 0, 1, shift + BITS);
+        }
+        Object[] first = node(children, 0, WIDTH, shift);
+        Object[] second = node(children, WIDTH, children.length, shift);
+        return node(new Object[] { first, second }, 0, 2, shift + BITS);
+    }
+
+    /**
+     * Number of elements of a leaf, or of children of an internal node.
+     */
+    private static int slotCount(@NotNull Object[] node, int shift) {
+        return shift == 0 ? node.length : childCount(node);
+    }
+
+    /**
+     * Computes how many slots each node of a level should have so that the level has at most {@link #EXTRA_NODES}
+     * more nodes than strictly needed, moving as few slots as possible: skinny nodes are merged into their right
+     * neighbours, one at a time.
+     */
+    @NotNull
+    private static int[] concatPlan(@NotNull int[] slots) {
+        int count = slots.length;
+        int total = 0;
+        for (int s : slots) {
+            total += s;
+        }
+        int optimal = (total + MASK) >>> BITS;
+        int i = 0;
+        while (count > optimal + EXTRA_NODES) {
+            while (slots[i] > WIDTH - EXTRA_NODES / 2) {
+                i++;
+            }
+            int remaining = slots[i];
+            while (remaining > 0) {
+                int newSize = Math.min(remaining + slots[i + 1], WIDTH);
+                slots[i] = newSize;
+                remaining = remaining + slots[i + 1] - newSize;
+                i++;
+            }
+            System.arraycopy(slots, i + 1, slots, i, count - i - 1);
+            count--;
+            i--;
+        }
+        return count == slots.length ? slots : Arrays.copyOf(slots, count);
+    }
+
+    /**
+     * Regroups the slots of {@code nodes} (all at {@code shift}) into new nodes with the sizes given by {@code plan},
+     * reusing the original nodes wherever they already match it.
+     */
+    @NotNull
+    private static Object[] redistribute(@NotNull Object[] nodes, @NotNull int[] plan, int shift) {
+        Object[] result = new Object[plan.length];
+        int source = 0;
+        int offset = 0;
+        for (int k = 0; k < plan.length; k++) {
+            int wanted = plan[k];
+            Object[] current = (Object[]) nodes[source];
+            if (offset == 0 && slotCount(current, shift) == wanted) {
+                result[k] = current;
+                source++;
+                continue;
+            }
+            Object[] slots = new Object[wanted];
+            int filled = 0;
+            while (filled < wanted) {
+                Object[] from = (Object[]) nodes[source];
+                int available = slotCount(from, shift) - offset;
+                int taken = Math.min(available, wanted - filled);
+                System.arraycopy(from, offset, slots, filled, taken);
+                filled += taken;
+                offset += taken;
+                if (taken == available) {
+                    source++;
+                    offset = 0;
+                }
+            }
+            result[k] = shift == 0 ? slots : node(slots, 0, wanted, shift);
+        }
+        return result;
+    }
+
+}
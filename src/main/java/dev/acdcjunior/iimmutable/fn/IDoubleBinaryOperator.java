@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IDoubleBinaryOperator {
+
+    /**
+     * @since 1.0.0
+     */
+    double applyAsDouble(double left, double right);
+
+}
\ No newline at end of file
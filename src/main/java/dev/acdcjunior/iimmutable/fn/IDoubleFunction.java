@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IDoubleFunction<R> {
+
+    /**
+     * @since 1.0.0
+     */
+    R apply(double input);
+
+}
\ No newline at end of file
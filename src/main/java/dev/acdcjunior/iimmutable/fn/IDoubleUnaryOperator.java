@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IDoubleUnaryOperator {
+
+    /**
+     * @since 1.0.0
+     */
+    double applyAsDouble(double operand);
+
+}
\ No newline at end of file
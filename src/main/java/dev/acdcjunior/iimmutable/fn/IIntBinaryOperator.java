@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IIntBinaryOperator {
+
+    /**
+     * @since 1.0.0
+     */
+    int applyAsInt(int left, int right);
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IIntFunction<R> {
+
+    /**
+     * @since 1.0.0
+     */
+    R apply(int input);
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IIntObjFunction<T, R> {
+
+    /**
+     * @since 1.0.0
+     */
+    R apply(int i, T input);
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IIntUnaryOperator {
+
+    /**
+     * @since 1.0.0
+     */
+    int applyAsInt(int operand);
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface ILongFunction<R> {
+
+    /**
+     * @since 1.0.0
+     */
+    R apply(long input);
+
+}
\ No newline at end of file
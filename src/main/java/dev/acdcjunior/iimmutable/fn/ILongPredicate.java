@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface ILongPredicate {
+
+    /**
+     * @since 1.0.0
+     */
+    boolean test(long input);
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface ILongUnaryOperator {
+
+    /**
+     * @since 1.0.0
+     */
+    long applyAsLong(long operand);
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IToDoubleFunction<T> {
+
+    /**
+     * @since 1.0.0
+     */
+    double applyAsDouble(T input);
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.acdcjunior.iimmutable.fn;
+
+
+/**
+ * @since 1.0.0
+ */
+public interface IToLongFunction<T> {
+
+    /**
+     * @since 1.0.0
+     */
+    long applyAsLong(T input);
+
+}
\ No newline at end of file
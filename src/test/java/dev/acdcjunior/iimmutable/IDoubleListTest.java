@@ -0,0 +1,73 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IDoubleBinaryOperator;
+import dev.acdcjunior.iimmutable.fn.IDoublePredicate;
+import dev.acdcjunior.iimmutable.fn.IDoubleUnaryOperator;
+import dev.acdcjunior.iimmutable.fn.IToDoubleFunction;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static dev.acdcjunior.iimmutable.IDoubleList.doubleListOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IDoubleListTest {
+
+    private final IDoubleList ls = doubleListOf(2.5, -1.0, 4.0, Double.NaN);
+
+    @Test
+    public void map__filter__reduce() {
+        IDoubleList result = ls.map(new IDoubleUnaryOperator() {
+            @Override
+            public double applyAsDouble(double operand) {
+                return operand * 2;
+            }
+        }).filter(new IDoublePredicate() {
+            @Override
+            public boolean test(double input) {
+                return input > 0;
+            }
+        });
+        assertThat(result).isEqualTo(doubleListOf(5.0, 8.0));
+        assertThat(result.reduce(new IDoubleBinaryOperator() {
+            @Override
+            public double applyAsDouble(double left, double right) {
+                return left * right;
+            }
+        }, 1.0)).isEqualTo(40.0);
+    }
+
+    @Test
+    public void sum__min__max() {
+        IDoubleList numbers = ls.subList(0, 3);
+        assertThat(numbers.sum()).isEqualTo(5.5);
+        assertThat(numbers.min()).isEqualTo(IOption.some(-1.0));
+        assertThat(numbers.max()).isEqualTo(IOption.some(4.0));
+        assertThat(ls.max()).isEqualTo(IOption.some(Double.NaN));
+    }
+
+    @Test
+    public void indexOf__compares_like_Double_equals() {
+        assertThat(ls.indexOf(Double.NaN)).isEqualTo(3);
+        assertThat(doubleListOf(0.0).contains(-0.0)).isFalse();
+    }
+
+    @Test
+    public void sorted() {
+        assertThat(ls.sorted()).isEqualTo(doubleListOf(-1.0, 2.5, 4.0, Double.NaN));
+    }
+
+    @Test
+    public void mapToDouble__boxed() {
+        IDoubleList halves = IList.listOf(1, 3).mapToDouble(new IToDoubleFunction<Integer>() {
+            @Override
+            public double applyAsDouble(Integer input) {
+                return input / 2.0;
+            }
+        });
+        assertThat(halves.boxed()).isEqualTo(IList.listOf(0.5, 1.5));
+        assertThat(halves.hashCode()).isEqualTo(Arrays.asList(0.5, 1.5).hashCode());
+    }
+
+}
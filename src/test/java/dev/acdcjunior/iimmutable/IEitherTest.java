@@ -2,9 +2,12 @@ package dev.acdcjunior.iimmutable;
 
 import dev.acdcjunior.iimmutable.fn.IConsumer;
 import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
 import dev.acdcjunior.iimmutable.tuple.IPair;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -357,4 +360,150 @@ public class IEitherTest {
         assertThat(rightVal.get()).isEqualTo(9999L);
     }
 
+    private static final IFunction<String, IEither<String, Integer>> PARSE = new IFunction<String, IEither<String, Integer>>() {
+        @Override
+        public IEither<String, Integer> apply(String s) {
+            try {
+                return IEither.right(Integer.parseInt(s));
+            } catch (NumberFormatException e) {
+                return IEither.left("not a number: " + s);
+            }
+        }
+    };
+
+    @Test
+    public void sequence() {
+        IEither<String, Integer> firstLeft = IEither.left("first");
+        assertThat(IEither.sequence(IList.listOf(IEither.<String, Integer>right(1), IEither.<String, Integer>right(2))))
+                .isEqualTo(IEither.<String, IList<Integer>>right(IList.listOf(1, 2)));
+        assertThat(IEither.sequence(IList.listOf(IEither.<String, Integer>right(1), firstLeft, IEither.<String, Integer>left("second"))))
+                .isSameAs(firstLeft);
+        assertThat(IEither.sequence(IList.<IEither<String, Integer>>emptyList()))
+                .isEqualTo(IEither.<String, IList<Integer>>right(IList.<Integer>emptyList()));
+    }
+
+    @Test
+    public void sequence__large_list() {
+        List<IEither<String, Integer>> eithers = new ArrayList<IEither<String, Integer>>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 1100; i++) {
+            eithers.add(IEither.<String, Integer>right(i));
+            expected.add(i);
+        }
+        assertThat(IEither.sequence(IList.listOf(eithers)).right().toList()).isEqualTo(expected);
+    }
+
+    @Test
+    public void traverse__stops_at_first_left() {
+        final List<String> seen = new ArrayList<String>();
+        IEither<String, IList<Integer>> result = IEither.traverse(IList.listOf("1", "x", "y"), new IFunction<String, IEither<String, Integer>>() {
+            @Override
+            public IEither<String, Integer> apply(String s) {
+                seen.add(s);
+                return PARSE.apply(s);
+            }
+        });
+        assertThat(result).isEqualTo(IEither.<String, IList<Integer>>left("not a number: x"));
+        assertThat(seen).containsExactly("1", "x");
+        assertThat(IEither.traverse(IList.listOf("1", "2"), PARSE)).isEqualTo(IEither.<String, IList<Integer>>right(IList.listOf(1, 2)));
+    }
+
+    @Test
+    public void fold() {
+        IFunction<String, String> leftFn = new IFunction<String, String>() {
+            @Override
+            public String apply(String s) {
+                return "was left: " + s;
+            }
+        };
+        IFunction<Long, String> rightFn = new IFunction<Long, String>() {
+            @Override
+            public String apply(Long l) {
+                return "was right: " + l;
+            }
+        };
+        assertThat(aLeft.fold(leftFn, rightFn)).isEqualTo("was left: " + LEFT_ARG);
+        assertThat(IEither.<String, Long>right(3L).fold(leftFn, rightFn)).isEqualTo("was right: 3");
+    }
+
+    @Test
+    public void map__mapLeft__return_this_when_value_is_unchanged() {
+        IFunction<String, String> identity = new IFunction<String, String>() {
+            @Override
+            public String apply(String s) {
+                return s;
+            }
+        };
+        assertThat(aRight.map(identity)).isSameAs(aRight);
+        assertThat(aLeft.mapLeft(identity)).isSameAs(aLeft);
+    }
+
+    private static final IFunction<String, Integer> PARSE_INT = new IFunction<String, Integer>() {
+        @Override
+        public Integer apply(String s) {
+            return Integer.parseInt(s);
+        }
+    };
+
+    @Test
+    public void catching() {
+        assertThat(IEither.catching(PARSE_INT, "12")).isEqualTo(IEither.<RuntimeException, Integer>right(12));
+        IEither<RuntimeException, Integer> failed = IEither.catching(PARSE_INT, "x");
+        assertThat(failed.isLeft()).isTrue();
+        assertThat(failed.left()).isInstanceOf(NumberFormatException.class);
+
+        final IFailure failure = new IFailure("nope");
+        assertThat(IEither.catching(new ISupplier<Integer>() {
+            @Override
+            public Integer get() {
+                throw failure;
+            }
+        }).left()).isSameAs(failure);
+        assertThat(IEither.catching(new ISupplier<String>() {
+            @Override
+            public String get() {
+                return "ok";
+            }
+        })).isEqualTo(IEither.<RuntimeException, String>right("ok"));
+    }
+
+    @Test
+    public void partition__lefts__rights() {
+        IList<IEither<String, Integer>> eithers = IList.listOf(
+                IEither.<String, Integer>right(1),
+                IEither.<String, Integer>left("a"),
+                IEither.<String, Integer>right(2),
+                IEither.<String, Integer>left("b"),
+                IEither.<String, Integer>right(3)
+        );
+        IPair<IList<String>, IList<Integer>> partition = IEither.partition(eithers);
+        assertThat(partition.getLeft()).isEqualTo(IList.listOf("a", "b"));
+        assertThat(partition.getRight()).isEqualTo(IList.listOf(1, 2, 3));
+        assertThat(IEither.<String>lefts(eithers)).isEqualTo(IList.listOf("a", "b"));
+        assertThat(IEither.<Integer>rights(eithers)).isEqualTo(IList.listOf(1, 2, 3));
+
+        IPair<IList<String>, IList<Integer>> empty = IEither.partition(IList.<IEither<String, Integer>>emptyList());
+        assertThat(empty.getLeft()).isEqualTo(IList.<String>emptyList());
+        assertThat(empty.getRight()).isEqualTo(IList.<Integer>emptyList());
+    }
+
+    @Test
+    public void partition__large_list() {
+        List<IEither<Integer, Integer>> eithers = new ArrayList<IEither<Integer, Integer>>();
+        List<Integer> expectedLefts = new ArrayList<Integer>();
+        List<Integer> expectedRights = new ArrayList<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            if (i % 3 == 0) {
+                eithers.add(IEither.<Integer, Integer>left(i));
+                expectedLefts.add(i);
+            } else {
+                eithers.add(IEither.<Integer, Integer>right(i));
+                expectedRights.add(i);
+            }
+        }
+        IPair<IList<Integer>, IList<Integer>> partition = IEither.partition(IList.listOf(eithers));
+        assertThat(partition.getLeft().toList()).isEqualTo(expectedLefts);
+        assertThat(partition.getRight().toList()).isEqualTo(expectedRights);
+    }
+
 }
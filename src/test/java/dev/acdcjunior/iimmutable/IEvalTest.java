@@ -0,0 +1,158 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import org.junit.Test;
+import org.junit.function.ThrowingRunnable;
+
+import static dev.acdcjunior.iimmutable.TestUtils.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IEvalTest {
+
+    private static final int DEPTH = 200000;
+
+    private static final IFunction<Integer, IEval<Integer>> PLUS_ONE = new IFunction<Integer, IEval<Integer>>() {
+        @Override
+        public IEval<Integer> apply(Integer i) {
+            return IEval.now(i + 1);
+        }
+    };
+
+    private static IEval<Boolean> isEven(final int n) {
+        if (n == 0) {
+            return IEval.now(true);
+        }
+        return IEval.defer(new ISupplier<IEval<Boolean>>() {
+            @Override
+            public IEval<Boolean> get() {
+                return isOdd(n - 1);
+            }
+        });
+    }
+
+    private static IEval<Boolean> isOdd(final int n) {
+        if (n == 0) {
+            return IEval.now(false);
+        }
+        return IEval.defer(new ISupplier<IEval<Boolean>>() {
+            @Override
+            public IEval<Boolean> get() {
+                return isEven(n - 1);
+            }
+        });
+    }
+
+    private static IEval<Long> sum(final int n) {
+        if (n == 0) {
+            return IEval.now(0L);
+        }
+        return IEval.defer(new ISupplier<IEval<Long>>() {
+            @Override
+            public IEval<Long> get() {
+                return sum(n - 1);
+            }
+        }).map(new IFunction<Long, Long>() {
+            @Override
+            public Long apply(Long s) {
+                return s + n;
+            }
+        });
+    }
+
+    @Test
+    public void deep_mutual_recursion_runs_in_constant_stack() {
+        assertThat(isEven(DEPTH).value()).isTrue();
+        assertThat(isOdd(DEPTH).value()).isFalse();
+    }
+
+    @Test
+    public void deep_non_tail_recursion() {
+        assertThat(sum(DEPTH).value()).isEqualTo((long) DEPTH * (DEPTH + 1) / 2);
+    }
+
+    @Test
+    public void deep_flatMap_chains() {
+        IEval<Integer> eval = IEval.now(0);
+        for (int i = 0; i < DEPTH; i++) {
+            eval = eval.flatMap(PLUS_ONE);
+        }
+        assertThat(eval.value()).isEqualTo(DEPTH);
+    }
+
+    @Test
+    public void later_is_computed_once_and_only_when_needed() {
+        final int[] calls = { 0 };
+        IEval<Integer> later = IEval.later(new ISupplier<Integer>() {
+            @Override
+            public Integer get() {
+                return ++calls[0];
+            }
+        });
+        IEval<Integer> mapped = later.flatMap(PLUS_ONE);
+        assertThat(calls[0]).isEqualTo(0);
+        assertThat(mapped.value()).isEqualTo(2);
+        assertThat(later.value()).isEqualTo(1);
+        assertThat(calls[0]).isEqualTo(1);
+    }
+
+    private static IEval<IEither<String, Integer>> countDown(IEither<String, Integer> either) {
+        return either.flatMapEval(new IFunction<Integer, IEval<IEither<String, Integer>>>() {
+            @Override
+            public IEval<IEither<String, Integer>> apply(Integer i) {
+                return countDown(i == 0 ? IEither.<String, Integer>left("done") : IEither.<String, Integer>right(i - 1));
+            }
+        });
+    }
+
+    @Test
+    public void IEither_flatMapEval() {
+        assertThat(countDown(IEither.<String, Integer>right(DEPTH)).value()).isEqualTo(IEither.<String, Integer>left("done"));
+    }
+
+    private static IEval<IOption<Integer>> halveWhileEven(IOption<Integer> option, final int steps) {
+        return option.flatMapEval(new IFunction<Integer, IEval<IOption<Integer>>>() {
+            @Override
+            public IEval<IOption<Integer>> apply(Integer i) {
+                if (steps == 0) {
+                    return IEval.now(IOption.some(i));
+                }
+                return halveWhileEven(i % 2 == 0 ? IOption.some(i / 2) : IOption.<Integer>none(), steps - 1);
+            }
+        });
+    }
+
+    @Test
+    public void IOption_flatMapEval() {
+        assertThat(halveWhileEven(IOption.some(1 << 20), 20).value()).isEqualTo(IOption.some(1));
+        assertThat(halveWhileEven(IOption.some(1 << 20), 21).value()).isEqualTo(IOption.<Integer>none());
+    }
+
+    @Test
+    public void null_computations_fail_with_a_message() {
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                IEval.<Integer>defer(new ISupplier<IEval<Integer>>() {
+                    @Override
+                    public IEval<Integer> get() {
+                        return null;
+                    }
+                }).value();
+            }
+        }).isInstanceOf(NullPointerException.class).hasMessage("The supplier passed to IEval#defer returned null");
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                IEval.now(1).flatMap(new IFunction<Integer, IEval<Integer>>() {
+                    @Override
+                    public IEval<Integer> apply(Integer i) {
+                        return null;
+                    }
+                }).value();
+            }
+        }).isInstanceOf(NullPointerException.class).hasMessage("The function passed to IEval#flatMap returned null");
+    }
+
+}
@@ -0,0 +1,29 @@
+package dev.acdcjunior.iimmutable;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IFailureTest {
+
+    @Test
+    public void has_no_stack_trace_by_default() {
+        IFailure failure = new IFailure("bad input");
+        assertThat(failure.getMessage()).isEqualTo("bad input");
+        assertThat(failure.hasStackTrace()).isFalse();
+        assertThat(failure.getStackTrace()).isEmpty();
+        assertThat(failure.fillInStackTrace().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void fills_in_stack_trace_when_asked() {
+        IllegalStateException cause = new IllegalStateException();
+        IFailure failure = new IFailure("bad input", cause, true);
+        assertThat(failure.hasStackTrace()).isTrue();
+        assertThat(failure.getStackTrace()).isNotEmpty();
+        assertThat(failure.getStackTrace()[0].getMethodName()).isEqualTo("fills_in_stack_trace_when_asked");
+        assertThat(failure.getCause()).isSameAs(cause);
+    }
+
+}
@@ -0,0 +1,256 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IPredicate;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.function.ThrowingRunnable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.acdcjunior.iimmutable.TestUtils.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IFlowTest {
+
+    private static final IPredicate<Integer> EVEN = new IPredicate<Integer>() {
+        @Override
+        public boolean test(Integer i) {
+            return i % 2 == 0;
+        }
+    };
+
+    private static final IFunction<Integer, Integer> TIMES_TEN = new IFunction<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer i) {
+            return i * 10;
+        }
+    };
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A subscriber that only requests elements when told to.
+     */
+    private static class TestSubscriber<T> implements IFlow.Subscriber<T> {
+        IFlow.Subscription subscription;
+        final List<T> received = Collections.synchronizedList(new ArrayList<T>());
+        Throwable error;
+        boolean completed = false;
+
+        @Override
+        public void onSubscribe(@NotNull IFlow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T t) {
+            received.add(t);
+        }
+
+        @Override
+        public void onError(@NotNull Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Counts how many elements were taken out of the source.
+     */
+    private static ISequence<Integer> counting(final AtomicInteger pulled) {
+        return ISequence.generate(new ISupplier<Integer>() {
+            @Override
+            public Integer get() {
+                return pulled.getAndIncrement();
+            }
+        });
+    }
+
+    @Test
+    public void map__filter__blockingToIList() {
+        IList<Integer> result = IFlow.fromIterable(IList.listOf(1, 2, 3, 4, 5, 6)).filter(EVEN).map(TIMES_TEN).blockingToIList();
+        assertThat(result).isEqualTo(IList.listOf(20, 40, 60));
+    }
+
+    @Test
+    public void only_requested_elements_are_pulled_from_the_source() {
+        AtomicInteger pulled = new AtomicInteger();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>();
+        IFlow.fromIterable(counting(pulled)).filter(EVEN).subscribe(subscriber);
+        assertThat(pulled.get()).isEqualTo(0);
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.received).containsExactly(0, 2);
+        assertThat(pulled.get()).isEqualTo(3);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.received).containsExactly(0, 2, 4);
+
+        subscriber.subscription.cancel();
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void flatMap() {
+        AtomicInteger pulled = new AtomicInteger();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>();
+        IFlow.fromIterable(counting(pulled)).flatMap(new IFunction<Integer, Iterable<Integer>>() {
+            @Override
+            public Iterable<Integer> apply(Integer i) {
+                return IList.listOf(i, i, i);
+            }
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(4);
+        assertThat(subscriber.received).containsExactly(0, 0, 0, 1);
+        assertThat(pulled.get()).isEqualTo(2);
+
+        assertThat(IFlow.fromIterable(IList.listOf(1, 2)).flatMap(new IFunction<Integer, Iterable<Integer>>() {
+            @Override
+            public Iterable<Integer> apply(Integer i) {
+                return i == 1 ? IList.<Integer>emptyList() : IList.listOf(i, -i);
+            }
+        }).blockingToIList()).isEqualTo(IList.listOf(2, -2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void buffer() {
+        AtomicInteger pulled = new AtomicInteger();
+        TestSubscriber<IList<Integer>> subscriber = new TestSubscriber<IList<Integer>>();
+        IFlow.fromIterable(counting(pulled)).buffer(3).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.received).containsExactly(IList.listOf(0, 1, 2), IList.listOf(3, 4, 5));
+        assertThat(pulled.get()).isEqualTo(6);
+
+        assertThat(IFlow.fromIterable(IList.listOf(1, 2, 3, 4)).buffer(3).blockingToIList())
+                .isEqualTo(IList.listOf(IList.listOf(1, 2, 3), IList.listOf(4)));
+    }
+
+    @Test
+    public void buffer__large_buffers() {
+        List<Integer> numbers = new ArrayList<Integer>();
+        for (int i = 0; i < 250; i++) {
+            numbers.add(i);
+        }
+        IList<IList<Integer>> buffers = IFlow.fromIterable(numbers).buffer(100).blockingToIList();
+        assertThat(buffers.size()).isEqualTo(3);
+        assertThat(buffers.get(0).toList()).isEqualTo(numbers.subList(0, 100));
+        assertThat(buffers.get(1).toList()).isEqualTo(numbers.subList(100, 200));
+        assertThat(buffers.get(2).toList()).isEqualTo(numbers.subList(200, 250));
+    }
+
+    @Test
+    public void observeOn__keeps_at_most_bufferSize_elements_in_flight() throws InterruptedException {
+        AtomicInteger pulled = new AtomicInteger();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>();
+        IFlow.fromIterable(counting(pulled)).observeOn(executor, 8).subscribe(subscriber);
+        assertThat(pulled.get()).isEqualTo(8);
+
+        subscriber.subscription.request(1);
+        while (subscriber.received.size() < 1) {
+            Thread.sleep(1);
+        }
+        assertThat(pulled.get()).isLessThanOrEqualTo(9);
+        subscriber.subscription.cancel();
+    }
+
+    @Test
+    public void observeOn__subscribeOn__large_flow() {
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            expected.add(i * 10);
+        }
+        ExecutorService producer = Executors.newSingleThreadExecutor();
+        try {
+            IList<Integer> result = IFlow.fromIterable(IList.listOf(expected)).subscribeOn(producer)
+                    .map(new IFunction<Integer, Integer>() {
+                        @Override
+                        public Integer apply(Integer i) {
+                            return i / 10;
+                        }
+                    }).observeOn(executor, 16).map(TIMES_TEN).blockingToIList();
+            assertThat(result.toList()).isEqualTo(expected);
+        } finally {
+            producer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void errors_cancel_the_source() {
+        final AtomicInteger pulled = new AtomicInteger();
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                IFlow.fromIterable(counting(pulled)).map(new IFunction<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer i) {
+                        if (i == 3) {
+                            throw new IllegalStateException("boom");
+                        }
+                        return i;
+                    }
+                }).observeOn(executor, 4).blockingToIList();
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(pulled.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void errors_thrown_by_functions_end_the_flow_too() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>();
+        IFlow.fromIterable(IList.listOf(1, 2)).filter(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                throw new AssertionError("bad " + i);
+            }
+        }).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertThat(subscriber.error).isInstanceOf(AssertionError.class).hasMessage("bad 1");
+        assertThat(subscriber.received).isEmpty();
+
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                IFlow.fromIterable(IList.listOf(1, 2)).flatMap(new IFunction<Integer, Iterable<Integer>>() {
+                    @Override
+                    public Iterable<Integer> apply(Integer i) {
+                        throw new StackOverflowError("deep " + i);
+                    }
+                }).blockingToIList();
+            }
+        }).isInstanceOf(StackOverflowError.class).hasMessage("deep 1");
+    }
+
+    @Test
+    public void request__non_positive() {
+        final TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>();
+        IFlow.fromIterable(IList.listOf(1)).subscribe(subscriber);
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                subscriber.subscription.request(0);
+            }
+        }).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Cannot `request(0)`");
+    }
+
+}
@@ -0,0 +1,284 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IConsumer;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import dev.acdcjunior.iimmutable.tuple.IPair;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.function.ThrowingRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.acdcjunior.iimmutable.TestUtils.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IFutureTest {
+
+    private static final IFunction<Integer, Integer> TIMES_TEN = new IFunction<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer i) {
+            return i * 10;
+        }
+    };
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private <T> IFuture<T> async(final T value) {
+        return IFuture.async(new ISupplier<T>() {
+            @Override
+            public T get() {
+                return value;
+            }
+        }, executor);
+    }
+
+    @Test
+    public void map__flatMap() throws TimeoutException {
+        IFuture<Integer> future = async(2).map(TIMES_TEN).flatMap(new IFunction<Integer, IFuture<Integer>>() {
+            @Override
+            public IFuture<Integer> apply(Integer i) {
+                return async(i + 1);
+            }
+        });
+        assertThat(future.blockingGet(5, TimeUnit.SECONDS)).isEqualTo(21);
+    }
+
+    @Test
+    public void composition_does_not_wait_for_the_promise() throws TimeoutException {
+        IPromise<Integer> promise = IPromise.promise();
+        IFuture<Integer> mapped = promise.future().map(TIMES_TEN);
+        assertThat(mapped.isDone()).isFalse();
+
+        promise.success(4);
+        assertThat(mapped.isDone()).isTrue();
+        assertThat(mapped.blockingGet(0, TimeUnit.SECONDS)).isEqualTo(40);
+    }
+
+    @Test
+    public void failures_skip_map_and_are_recovered() throws TimeoutException {
+        IFuture<Integer> failed = IFuture.<Integer>failed(new IllegalStateException("boom")).map(TIMES_TEN);
+        assertThat(failed.recover(new IFunction<Throwable, Integer>() {
+            @Override
+            public Integer apply(Throwable e) {
+                return -1;
+            }
+        }).blockingGet(0, TimeUnit.SECONDS)).isEqualTo(-1);
+
+        IEither<Throwable, Integer> either = failed.recoverToEither().blockingGet(0, TimeUnit.SECONDS);
+        assertThat(either.isLeft()).isTrue();
+        assertThat(either.left()).hasMessage("boom");
+        assertThat(IFuture.successful(3).recoverToEither().blockingGet(0, TimeUnit.SECONDS)).isEqualTo(IEither.<Throwable, Integer>right(3));
+    }
+
+    @Test
+    public void exceptions_thrown_by_mappers_fail_the_future() {
+        final IFuture<Integer> future = async(1).map(new IFunction<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer i) {
+                throw new IllegalArgumentException("bad " + i);
+            }
+        });
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() throws TimeoutException {
+                future.blockingGet(5, TimeUnit.SECONDS);
+            }
+        }).isInstanceOf(IllegalArgumentException.class).hasMessage("bad 1");
+    }
+
+    @Test
+    public void zip() throws TimeoutException {
+        IPromise<String> promise = IPromise.promise();
+        IFuture<IPair<Integer, String>> zipped = async(1).zip(promise.future());
+        promise.success("a");
+        assertThat(zipped.blockingGet(5, TimeUnit.SECONDS)).isEqualTo(IPair.pairOf(1, "a"));
+
+        IPromise<String> never = IPromise.promise();
+        IFuture<IPair<Integer, String>> failsEarly = IFuture.<Integer>failed(new IllegalStateException()).zip(never.future());
+        assertThat(failsEarly.isDone()).isTrue();
+    }
+
+    @Test
+    public void sequence() throws TimeoutException {
+        IPromise<Integer> last = IPromise.promise();
+        IFuture<IList<Integer>> all = IFuture.sequence(IList.listOf(async(1), async(2), last.future()));
+        assertThat(all.isDone()).isFalse();
+        last.success(3);
+        assertThat(all.blockingGet(5, TimeUnit.SECONDS)).isEqualTo(IList.listOf(1, 2, 3));
+
+        assertThat(IFuture.sequence(IList.<IFuture<Integer>>emptyList()).blockingGet(0, TimeUnit.SECONDS)).isEqualTo(IList.<Integer>emptyList());
+    }
+
+    @Test
+    public void sequence__many_futures_completed_out_of_order() throws TimeoutException {
+        List<IPromise<Integer>> promises = new ArrayList<IPromise<Integer>>();
+        List<IFuture<Integer>> futures = new ArrayList<IFuture<Integer>>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            IPromise<Integer> promise = IPromise.promise(executor);
+            promises.add(promise);
+            futures.add(promise.future());
+            expected.add(i);
+        }
+        IFuture<IList<Integer>> all = IFuture.sequence(IList.listOf(futures));
+        for (int i = 99; i >= 0; i--) {
+            promises.get(i).success(i);
+        }
+        assertThat(all.blockingGet(5, TimeUnit.SECONDS).toList()).isEqualTo(expected);
+    }
+
+    @Test
+    public void sequence__callbacks_run_on_the_executor_of_the_first_future() throws InterruptedException {
+        final AtomicReference<Thread> callbackThread = new AtomicReference<Thread>();
+        final CountDownLatch called = new CountDownLatch(1);
+        IPromise<Integer> first = IPromise.promise(executor);
+        IFuture.sequence(IList.listOf(first.future(), IFuture.successful(2))).onComplete(new IConsumer<IList<Integer>>() {
+            @Override
+            public void accept(IList<Integer> values) {
+                callbackThread.set(Thread.currentThread());
+                called.countDown();
+            }
+        }, new IConsumer<Throwable>() {
+            @Override
+            public void accept(Throwable e) {
+            }
+        });
+        first.success(1);
+        assertThat(called.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(callbackThread.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void callbacks_run_on_the_executor_of_the_future() throws TimeoutException, InterruptedException {
+        final AtomicReference<Thread> callbackThread = new AtomicReference<Thread>();
+        IPromise<Integer> promise = IPromise.promise();
+        promise.future().onExecutor(executor).onComplete(new IConsumer<Integer>() {
+            @Override
+            public void accept(Integer i) {
+                callbackThread.set(Thread.currentThread());
+            }
+        }, new IConsumer<Throwable>() {
+            @Override
+            public void accept(Throwable e) {
+            }
+        });
+        promise.success(1);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(callbackThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void promise_can_only_be_completed_once() {
+        final IPromise<Integer> promise = IPromise.promise();
+        promise.success(1);
+        assertThat(promise.tryFailure(new IllegalStateException())).isFalse();
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                promise.success(2);
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessage("IPromise was already completed");
+    }
+
+    @Test
+    public void blockingGet__timeout() {
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() throws TimeoutException {
+                IPromise.<Integer>promise().future().blockingGet(10, TimeUnit.MILLISECONDS);
+            }
+        }).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void a_throwing_callback_does_not_stop_other_callbacks_nor_the_producer() throws TimeoutException {
+        final List<Throwable> uncaught = new ArrayList<Throwable>();
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler previous = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(Thread t, Throwable e) {
+                uncaught.add(e);
+            }
+        });
+        try {
+            IPromise<Integer> promise = IPromise.promise();
+            promise.future().onComplete(new IConsumer<Integer>() {
+                @Override
+                public void accept(Integer i) {
+                    throw new IllegalStateException("boom");
+                }
+            }, new IConsumer<Throwable>() {
+                @Override
+                public void accept(Throwable e) {
+                }
+            });
+            IFuture<Integer> mapped = promise.future().map(TIMES_TEN);
+
+            promise.success(1);
+
+            assertThat(mapped.blockingGet(0, TimeUnit.SECONDS)).isEqualTo(10);
+            assertThat(uncaught).hasSize(1);
+            assertThat(uncaught.get(0)).hasMessage("boom");
+        } finally {
+            thread.setUncaughtExceptionHandler(previous);
+        }
+    }
+
+    @Test
+    public void errors_thrown_by_mappers_fail_the_future() {
+        final IFuture<Integer> future = IFuture.successful(1).map(new IFunction<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer i) {
+                throw new AssertionError("bad " + i);
+            }
+        });
+        assertThat(future.isDone()).isTrue();
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() throws TimeoutException {
+                future.blockingGet(0, TimeUnit.SECONDS);
+            }
+        }).isInstanceOf(AssertionError.class).hasMessage("bad 1");
+    }
+
+    @Test
+    public void long_same_thread_chains_do_not_overflow_the_stack() throws TimeoutException {
+        IPromise<Integer> promise = IPromise.promise();
+        IFuture<Integer> mapped = promise.future();
+        IFuture<Integer> flatMapped = promise.future();
+        for (int i = 0; i < 20000; i++) {
+            mapped = mapped.map(new IFunction<Integer, Integer>() {
+                @Override
+                public Integer apply(Integer i) {
+                    return i + 1;
+                }
+            });
+            flatMapped = flatMapped.flatMap(new IFunction<Integer, IFuture<Integer>>() {
+                @Override
+                public IFuture<Integer> apply(Integer i) {
+                    return IFuture.successful(i + 1);
+                }
+            });
+        }
+        promise.success(0);
+        assertThat(mapped.blockingGet(0, TimeUnit.SECONDS)).isEqualTo(20000);
+        assertThat(flatMapped.blockingGet(0, TimeUnit.SECONDS)).isEqualTo(20000);
+    }
+
+}
@@ -0,0 +1,150 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IIntBinaryOperator;
+import dev.acdcjunior.iimmutable.fn.IIntFunction;
+import dev.acdcjunior.iimmutable.fn.IIntPredicate;
+import dev.acdcjunior.iimmutable.fn.IIntUnaryOperator;
+import dev.acdcjunior.iimmutable.fn.IToIntFunction;
+import org.junit.Test;
+import org.junit.function.ThrowingRunnable;
+
+import java.util.Arrays;
+
+import static dev.acdcjunior.iimmutable.IIntList.intListOf;
+import static dev.acdcjunior.iimmutable.TestUtils.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IIntListTest {
+
+    private static final IIntBinaryOperator SUM = new IIntBinaryOperator() {
+        @Override
+        public int applyAsInt(int left, int right) {
+            return left + right;
+        }
+    };
+
+    private final IIntList ls = intListOf(5, 3, 8, 1, 3);
+
+    @Test
+    public void intListOf__does_not_share_the_array() {
+        int[] array = { 1, 2 };
+        IIntList ils = intListOf(array);
+        array[0] = 99;
+        assertThat(ils.get(0)).isEqualTo(1);
+        assertThat(ils.toArray()).isEqualTo(new int[] { 1, 2 });
+    }
+
+    @Test
+    public void map__filter() {
+        IIntList mapped = ls.map(new IIntUnaryOperator() {
+            @Override
+            public int applyAsInt(int operand) {
+                return operand * 2;
+            }
+        });
+        assertThat(mapped).isEqualTo(intListOf(10, 6, 16, 2, 6));
+
+        IIntList filtered = ls.filter(new IIntPredicate() {
+            @Override
+            public boolean test(int input) {
+                return input > 3;
+            }
+        });
+        assertThat(filtered).isEqualTo(intListOf(5, 8));
+    }
+
+    @Test
+    public void mapToObj() {
+        IList<String> strings = ls.subList(0, 2).mapToObj(new IIntFunction<String>() {
+            @Override
+            public String apply(int input) {
+                return "#" + input;
+            }
+        });
+        assertThat(strings).isEqualTo(IList.listOf("#5", "#3"));
+    }
+
+    @Test
+    public void reduce__sum__min__max() {
+        assertThat(ls.reduce(SUM)).isEqualTo(IOption.some(20));
+        assertThat(ls.reduce(SUM, 100)).isEqualTo(120);
+        assertThat(IIntList.emptyIntList().reduce(SUM)).isEqualTo(IOption.<Integer>none());
+        assertThat(ls.sum()).isEqualTo(20L);
+        assertThat(intListOf(Integer.MAX_VALUE, Integer.MAX_VALUE).sum()).isEqualTo(2L * Integer.MAX_VALUE);
+        assertThat(ls.min()).isEqualTo(IOption.some(1));
+        assertThat(ls.max()).isEqualTo(IOption.some(8));
+        assertThat(IIntList.emptyIntList().max()).isEqualTo(IOption.<Integer>none());
+    }
+
+    @Test
+    public void contains__indexOf() {
+        assertThat(ls.contains(8)).isTrue();
+        assertThat(ls.contains(7)).isFalse();
+        assertThat(ls.indexOf(3)).isEqualTo(1);
+        assertThat(ls.indexOf(7)).isEqualTo(-1);
+    }
+
+    @Test
+    public void sorted__does_not_change_original() {
+        assertThat(ls.sorted()).isEqualTo(intListOf(1, 3, 3, 5, 8));
+        assertThat(ls).isEqualTo(intListOf(5, 3, 8, 1, 3));
+    }
+
+    @Test
+    public void subList() {
+        IIntList sub = ls.subList(1, 4);
+        assertThat(sub).isEqualTo(intListOf(3, 8, 1));
+        assertThat(sub.get(0)).isEqualTo(3);
+        assertThat(sub.indexOf(1)).isEqualTo(2);
+        assertThat(sub.sum()).isEqualTo(12L);
+        assertThat(sub.sorted()).isEqualTo(intListOf(1, 3, 8));
+        assertThat(sub.subList(1, 2)).isEqualTo(intListOf(8));
+        assertThat(sub.hashCode()).isEqualTo(intListOf(3, 8, 1).hashCode());
+        assertThat(sub.toString()).isEqualTo("[3, 8, 1]");
+    }
+
+    @Test
+    public void get__rangeCheck() {
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                ls.subList(1, 3).get(2);
+            }
+        }).isInstanceOf(IndexOutOfBoundsException.class).hasMessageContaining(
+                "Cannot `get(2)`: Index (2) must be equal to or greater than zero and less than size (2)"
+        );
+    }
+
+    @Test
+    public void mapToInt__boxed() {
+        IIntList lengths = IList.listOf("a", "bbb", "cc").mapToInt(new IToIntFunction<String>() {
+            @Override
+            public int applyAsInt(String input) {
+                return input.length();
+            }
+        });
+        assertThat(lengths).isEqualTo(intListOf(1, 3, 2));
+        assertThat(lengths.boxed()).isEqualTo(IList.listOf(1, 3, 2));
+        assertThat(lengths.hashCode()).isEqualTo(Arrays.asList(1, 3, 2).hashCode());
+    }
+
+    @Test
+    public void boxed__mapToObj__large_list() {
+        int[] elements = new int[1100];
+        Integer[] expected = new Integer[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+            expected[i] = i;
+        }
+        IIntList large = intListOf(elements);
+        assertThat(large.boxed().toList()).isEqualTo(Arrays.asList(expected));
+        assertThat(large.subList(1, 1100).mapToObj(new IIntFunction<Integer>() {
+            @Override
+            public Integer apply(int value) {
+                return value;
+            }
+        }).toList()).isEqualTo(Arrays.asList(expected).subList(1, 1100));
+    }
+
+}
@@ -3,7 +3,9 @@ package dev.acdcjunior.iimmutable;
 import dev.acdcjunior.iimmutable.fn.IBiFunction;
 import dev.acdcjunior.iimmutable.fn.IConsumer;
 import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IIntObjFunction;
 import dev.acdcjunior.iimmutable.fn.IPredicate;
+import dev.acdcjunior.iimmutable.tuple.IPair;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 import org.junit.function.ThrowingRunnable;
@@ -54,11 +56,58 @@ public class IListTest {
         assertThat(mutableList).isEqualTo(IList.listOf(w("a"), w("b"), w("c"), w("new")).toList());
     }
 
+    @Test
+    public void toList__is_RandomAccess() {
+        assertThat(iList.toList()).isInstanceOf(RandomAccess.class);
+        assertThat(iList.toList().toArray()).isEqualTo(new Object[] { w("a"), w("b"), w("c") });
+    }
+
+    @Test
+    public void map__filter__large_list() {
+        List<Integer> is = new ArrayList<Integer>();
+        List<String> expectedMapped = new ArrayList<String>();
+        List<Integer> expectedFiltered = new ArrayList<Integer>();
+        for (int i = 0; i < 2500; i++) {
+            is.add(i);
+            expectedMapped.add(String.valueOf(i));
+            if (i % 3 == 0) {
+                expectedFiltered.add(i);
+            }
+        }
+        IList<Integer> ls = IList.listOf(is);
+        assertThat(ls.map(TO_STRING_MAPPER).toList()).isEqualTo(expectedMapped);
+        assertThat(ls.filter(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i % 3 == 0;
+            }
+        }).toList()).isEqualTo(expectedFiltered);
+    }
+
     @Test
     public void listOf__Iterator_null_returns_emptyList() {
         assertThat(IList.listOf((Iterator<Object>) null)).isEqualTo(IList.emptyList());
     }
 
+    @Test
+    public void listOf__IList_returns_same_instance() {
+        IList<Integer> ls = IList.listOf(1, 2, 3);
+        assertThat(IList.listOf((Iterable<Integer>) ls)).isSameAs(ls);
+    }
+
+    @Test
+    public void listOf__Iterator_and_Collection_of_any_size() {
+        for (int size : new int[]{0, 1, 31, 32, 33, 64, 65, 1024, 1056, 1057, 40000}) {
+            List<Integer> is = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++) {
+                is.add(i);
+            }
+            assertThat(IList.listOf(is.iterator()).toList()).isEqualTo(is);
+            assertThat(IList.listOf(is).toList()).isEqualTo(is);
+            assertThat(IList.listOf(is.iterator()).plus(-1).get(size)).isEqualTo(-1);
+        }
+    }
+
     @Test
     public void map() {
         IList<Character> cs = IList.listOf(Arrays.asList('a', 'b').iterator()).map(new IFunction<Character, Character>() {
@@ -81,6 +130,17 @@ public class IListTest {
         assertThat(cs).containsExactly("0A", "1B");
     }
 
+    @Test
+    public void mapIntIndexed() {
+        IList<String> cs = IList.listOf('a', 'b').mapIntIndexed(new IIntObjFunction<Character, String>() {
+            @Override
+            public String apply(int i, Character input) {
+                return String.valueOf(i) + Character.toUpperCase(input);
+            }
+        });
+        assertThat(cs).containsExactly("0A", "1B");
+    }
+
     @Test
     public void flatMap() {
         IList<Wrapper> ss = IList.listOf(w("a"), w("b")).flatMap(new IFunction<Wrapper, Iterable<? extends Wrapper>>() {
@@ -104,12 +164,55 @@ public class IListTest {
         assertThat(cs).containsExactly('a', 'b', 'c');
     }
 
+    @Test
+    public void distinct__keeps_first_occurrences() {
+        List<Integer> is = new ArrayList<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            is.add(i % 7 == 0 ? null : (i * 31) % 1000);
+        }
+        List<Integer> expected = new ArrayList<Integer>(new LinkedHashSet<Integer>(is));
+        assertThat(IList.listOf(is).distinct().toList()).isEqualTo(expected);
+
+        IList<Character> noDuplicates = IList.listOf('a', 'b');
+        assertThat(noDuplicates.distinct()).isSameAs(noDuplicates);
+    }
+
+    @Test
+    public void distinctBy() {
+        IList<String> ss = IList.listOf("a", "bb", "c", "dd", "eee").distinctBy(new IFunction<String, Integer>() {
+            @Override
+            public Integer apply(String s) {
+                return s.length();
+            }
+        });
+        assertThat(ss).containsExactly("a", "bb", "eee");
+    }
+
     @Test
     public void subtract_list() {
         IList<Character> cs = IList.listOf('a', 'b', 'a', 'c').subtract(IList.listOf('a', 'c'));
         assertThat(cs).containsExactly('b');
     }
 
+    @Test
+    public void subtract__large_lists() {
+        List<Integer> is = new ArrayList<Integer>();
+        List<Integer> others = new ArrayList<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            is.add(i % 10 == 0 ? null : i);
+            if (i % 3 == 0) {
+                others.add(i);
+            } else if (i % 10 != 0) {
+                expected.add(i);
+            }
+        }
+        others.add(null);
+        assertThat(IList.listOf(is).subtract(others).toList()).isEqualTo(expected);
+        assertThat(IList.listOf(is).subtract(IList.listOf(-1, -2, -3, -4, -5, -6, -7, -8, -9)).toList()).isEqualTo(is);
+        assertThat(IList.listOf(1, null, 3).subtract(others).toList()).isEqualTo(Arrays.asList(1));
+    }
+
     @Test
     public void subtract_elements() {
         IList<Character> cs = IList.listOf('a', 'b', 'd', 'a', 'c').subtract('c', 'd');
@@ -169,6 +272,262 @@ public class IListTest {
         assertThat(la.hashCode()).isEqualTo(arrayList.hashCode());
     }
 
+    @Test
+    public void hashCode__stays_correct_after_plus__set__remove__concat() {
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 2000; i++) {
+            expected.add(i % 13 == 0 ? null : "s" + i);
+        }
+        IList<String> ls = IList.listOf(expected);
+        assertThat(ls.hashCode()).isEqualTo(expected.hashCode());
+
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            int index = random.nextInt(expected.size());
+            switch (i % 4) {
+                case 0:
+                    ls = ls.plus("p" + i);
+                    expected.add("p" + i);
+                    break;
+                case 1:
+                    ls = ls.set(index, i % 3 == 0 ? null : "x" + i);
+                    expected.set(index, i % 3 == 0 ? null : "x" + i);
+                    break;
+                case 2:
+                    ls = ls.remove(index);
+                    expected.remove(index);
+                    break;
+                default:
+                    IList<String> other = IList.listOf("c" + i, null, "d" + i);
+                    other.hashCode();
+                    ls = ls.concat(other);
+                    expected.addAll(other.toList());
+            }
+            assertThat(ls.hashCode()).isEqualTo(expected.hashCode());
+        }
+        assertThat(ls.toList()).isEqualTo(expected);
+        assertThat(IList.<String>emptyList().plus("a", "b").hashCode()).isEqualTo(Arrays.asList("a", "b").hashCode());
+        assertThat(IList.listOf(1, 2).subList(0, 1).remove(0).hashCode()).isEqualTo(1);
+    }
+
+    @Test
+    public void plus__builder__remove__do_not_hash_elements_unless_hashCode_was_called() {
+        final int[] hashCodeCalls = { 0 };
+        Object counted = new Object() {
+            @Override
+            public int hashCode() {
+                hashCodeCalls[0]++;
+                return 7;
+            }
+        };
+        IList<Object> ls = IList.emptyList().plus(counted, counted);
+        ls = IList.builder().addAll(ls).add(counted).build();
+        ls = ls.remove(1);
+        assertThat(hashCodeCalls[0]).isEqualTo(0);
+
+        assertThat(ls.hashCode()).isEqualTo(Arrays.asList(counted, counted).hashCode());
+    }
+
+    @Test
+    public void equals__lists_sharing_structure() {
+        List<Integer> is = new ArrayList<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            is.add(i);
+        }
+        IList<Integer> ls = IList.listOf(is);
+        IList<Integer> changed = ls.set(1234, -1);
+        assertThat(changed).isNotEqualTo(ls);
+        assertThat(changed.set(1234, 1234)).isEqualTo(ls);
+        assertThat(ls.plus(1).remove(5000)).isEqualTo(ls);
+        assertThat(ls.indexed()).isEqualTo(ls);
+        assertThat(ls.subList(10, 20)).isEqualTo(ls.subList(10, 20)).isNotEqualTo(ls.subList(11, 21));
+
+        IList<Integer> concatenated = IList.listOf(is.subList(0, 1700)).concat(IList.listOf(is.subList(1700, 5000)));
+        assertThat(concatenated).isEqualTo(ls);
+        assertThat(concatenated.set(4000, -1)).isEqualTo(changed.set(1234, 1234).set(4000, -1));
+        assertThat(concatenated.set(4000, -1)).isNotEqualTo(ls);
+    }
+
+    @Test
+    public void equals__different_hashCodes() {
+        IList<String> ls = IList.listOf("a", "b");
+        IList<String> other = IList.listOf("a", "c");
+        assertThat(ls.hashCode()).isNotEqualTo(other.hashCode());
+        assertThat(ls).isNotEqualTo(other);
+    }
+
+    @Test
+    public void sorted__sortedDescending__sortedBy() {
+        IList<Integer> ls = IList.listOf(3, 1, 2, 5, 4);
+        assertThat(ls.sorted()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(ls.sortedDescending()).containsExactly(5, 4, 3, 2, 1);
+        IList<Integer> sorted = ls.sorted();
+        assertThat(sorted.sorted()).isSameAs(sorted);
+        assertThat(ls).containsExactly(3, 1, 2, 5, 4);
+
+        IList<String> ss = IList.listOf("ccc", "a", "bb", "dd").sortedBy(new IFunction<String, Integer>() {
+            @Override
+            public Integer apply(String s) {
+                return s.length();
+            }
+        });
+        assertThat(ss).containsExactly("a", "bb", "dd", "ccc");
+    }
+
+    @Test
+    public void binarySearch__indexOf__contains__on_sorted_lists() {
+        List<Integer> is = new ArrayList<Integer>();
+        for (int i = 0; i < 3000; i++) {
+            is.add((i * 7) % 1000);
+        }
+        IList<Integer> sorted = IList.listOf(is).sorted();
+        List<Integer> expected = new ArrayList<Integer>(is);
+        Collections.sort(expected);
+        assertThat(sorted.toList()).isEqualTo(expected);
+
+        for (int i = -1; i <= 1000; i++) {
+            assertThat(sorted.indexOf(i)).isEqualTo(expected.indexOf(i));
+            assertThat(sorted.contains(i)).isEqualTo(expected.contains(i));
+            assertThat(sorted.binarySearch(i)).isEqualTo(Collections.binarySearch(expected, i));
+        }
+        IList<Integer> filtered = sorted.subList(100, 2000).filter(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i % 2 == 0;
+            }
+        });
+        List<Integer> expectedFiltered = new ArrayList<Integer>();
+        for (Integer i : expected.subList(100, 2000)) {
+            if (i % 2 == 0) {
+                expectedFiltered.add(i);
+            }
+        }
+        assertThat(filtered.toList()).isEqualTo(expectedFiltered);
+        assertThat(filtered.indexOf(100)).isEqualTo(expectedFiltered.indexOf(100));
+        assertThat(filtered.indexOf(101)).isEqualTo(-1);
+        assertThat(sorted.remove(0).indexOf(0)).isEqualTo(0);
+        assertThat(sorted.remove(0).indexOf(1)).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("SuspiciousMethodCalls")
+    public void indexOf__on_sorted_list__falls_back_for_elements_the_comparator_cannot_compare() {
+        IList<Object> ls = IList.<Object>listOf(2, 1, 3).sortedBy(new IFunction<Object, Integer>() {
+            @Override
+            public Integer apply(Object o) {
+                return (Integer) o;
+            }
+        });
+        assertThat(ls.indexOf("x")).isEqualTo(-1);
+        assertThat(ls.indexOf((Object) null)).isEqualTo(-1);
+        assertThat(ls.indexOf(3)).isEqualTo(2);
+    }
+
+    @Test
+    public void indexOf__contains__on_list_sorted_by_a_comparator_inconsistent_with_equals() {
+        IList<String> ls = IList.listOf("b", "A", "c").sorted(String.CASE_INSENSITIVE_ORDER);
+        assertThat(ls.indexOf("a")).isEqualTo(-1);
+        assertThat(ls.contains("a")).isFalse();
+        assertThat(ls.indexOf("A")).isEqualTo(0);
+        assertThat(ls.sortedDescending().indexOf("A")).isEqualTo(2);
+
+        List<Integer> arrayList = new ArrayList<Integer>(Collections.singletonList(1));
+        List<Integer> linkedList = new LinkedList<Integer>(Collections.singletonList(2));
+        IList<List<Integer>> byClass = IList.listOf(linkedList, arrayList).sorted(new Comparator<List<Integer>>() {
+            @Override
+            public int compare(List<Integer> l1, List<Integer> l2) {
+                return l1.getClass().getName().compareTo(l2.getClass().getName());
+            }
+        });
+        // equal to arrayList, but not in the same position in that order
+        assertThat(byClass.indexOf(new LinkedList<Integer>(Collections.singletonList(1)))).isEqualTo(0);
+    }
+
+    private static final class Version implements Comparable<Version> {
+        private final int number;
+
+        Version(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public int compareTo(Version other) {
+            if (number < 0 || other.number < 0) {
+                throw new ClassCastException("negative versions can't be compared");
+            }
+            return number - other.number;
+        }
+    }
+
+    @Test
+    public void indexOf__on_naturally_sorted_list__lets_compareTo_exceptions_propagate() {
+        final IList<Version> ls = IList.listOf(new Version(2), new Version(1), new Version(3)).sorted();
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                ls.indexOf(new Version(-1));
+            }
+        }).isInstanceOf(ClassCastException.class).hasMessage("negative versions can't be compared");
+    }
+
+    @Test
+    public void min__max() {
+        IList<Integer> ls = IList.listOf(3, 1, 2, 5, 4);
+        assertThat(ls.min()).isEqualTo(IOption.some(1));
+        assertThat(ls.max()).isEqualTo(IOption.some(5));
+        assertThat(ls.sorted().min()).isEqualTo(IOption.some(1));
+        assertThat(ls.sortedDescending().max()).isEqualTo(IOption.some(5));
+        assertThat(ls.sortedDescending().min()).isEqualTo(IOption.some(1));
+        assertThat(ls.max(Collections.<Integer>reverseOrder())).isEqualTo(IOption.some(1));
+        assertThat(IList.<Integer>emptyList().min()).isEqualTo(IOption.<Integer>none());
+    }
+
+    private static final IFunction<String, Integer> LENGTH = new IFunction<String, Integer>() {
+        @Override
+        public Integer apply(String s) {
+            return s.length();
+        }
+    };
+
+    @Test
+    public void groupBy() {
+        IMap<Integer, IList<String>> groups = IList.listOf("bb", "a", "cc", "ddd", "e").groupBy(LENGTH);
+        assertThat(groups.toMap().keySet()).containsExactly(2, 1, 3);
+        assertThat(groups.get(2)).isEqualTo(IList.listOf("bb", "cc"));
+        assertThat(groups.get(1)).isEqualTo(IList.listOf("a", "e"));
+        assertThat(groups.get(3)).isEqualTo(IList.listOf("ddd"));
+        assertThat(IList.<String>emptyList().groupBy(LENGTH).toMap()).isEmpty();
+    }
+
+    @Test
+    public void partition() {
+        IPair<IList<Integer>, IList<Integer>> evensAndOdds = IList.listOf(1, 2, 3, 4, 5).partition(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i % 2 == 0;
+            }
+        });
+        assertThat(evensAndOdds.getLeft()).isEqualTo(IList.listOf(2, 4));
+        assertThat(evensAndOdds.getRight()).isEqualTo(IList.listOf(1, 3, 5));
+
+        IList<Integer> ls = IList.listOf(1, 3);
+        assertThat(ls.partition(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i % 2 == 0;
+            }
+        }).getRight()).isSameAs(ls);
+    }
+
+    @Test
+    public void countBy() {
+        IMap<Integer, Integer> counts = IList.listOf("bb", "a", "cc", "ddd", "e", "ff").countBy(LENGTH);
+        assertThat(counts.toMap().keySet()).containsExactly(2, 1, 3);
+        assertThat(counts.get(2)).isEqualTo(3);
+        assertThat(counts.get(1)).isEqualTo(2);
+        assertThat(counts.get(3)).isEqualTo(1);
+    }
+
     @Test
     public void isEmpty() {
         assertThat(IList.listOf("aw", "be").isEmpty()).isEqualTo(false);
@@ -297,6 +656,21 @@ public class IListTest {
         assertThat(IList.listOf("a", "b", "c").toArray(new String[0])).isEqualTo(new String[] { "a", "b", "c"});
     }
 
+    @Test
+    public void toList__toArray_of_type() {
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        IList<Integer> ls = IList.listOf(expected);
+        assertThat(ls.toList().toArray(new Integer[0])).isEqualTo(expected.toArray(new Integer[0]));
+        assertThat(ls.subList(10, 90).toList().toArray(new Number[0])).isEqualTo(expected.subList(10, 90).toArray(new Number[0]));
+
+        Integer[] larger = new Integer[] { -1, -1, -1, -1 };
+        assertThat(IList.listOf(1, 2).toList().toArray(larger)).isSameAs(larger);
+        assertThat(larger).isEqualTo(new Integer[] { 1, 2, null, -1 });
+    }
+
     @Test
     public void join_separator() {
         assertThat(IList.listOf("a", "b", "c").join("!")).isEqualTo("a!b!c");
@@ -420,6 +794,26 @@ public class IListTest {
         assertThat(iList.contains(w("@"))).isFalse();
     }
 
+    @Test
+    public void indexed__contains__indexOf() {
+        List<String> ss = new ArrayList<String>();
+        for (int i = 0; i < 3000; i++) {
+            ss.add(i % 500 == 0 ? null : "s" + (i % 1200));
+        }
+        IList<String> ls = IList.listOf(ss);
+        IList<String> indexed = ls.indexed();
+        assertThat(indexed).isEqualTo(ls);
+        assertThat(indexed.indexed()).isSameAs(indexed);
+        for (String s : Arrays.asList("s0", "s1", "s1199", "s499", null, "s1200", "x")) {
+            assertThat(indexed.indexOf(s)).isEqualTo(ss.indexOf(s));
+            assertThat(indexed.contains(s)).isEqualTo(ss.contains(s));
+            assertThat(indexed.toList().indexOf(s)).isEqualTo(ss.indexOf(s));
+        }
+        IList<String> indexedView = ls.subList(1000, 2000).indexed();
+        assertThat(indexedView.indexOf("s1")).isEqualTo(201);
+        assertThat(indexedView.indexOf((Object) null)).isEqualTo(0);
+    }
+
     @Test
     public void subList() {
         IList<String> ls = IList.listOf("a", "b", "c", "d", "e");
@@ -427,6 +821,178 @@ public class IListTest {
         assertThat(subLs).isEqualTo(IList.listOf("a", "b"));
     }
 
+    @Test
+    public void plus__many_elements() {
+        List<Integer> expected = new ArrayList<Integer>();
+        IList<Integer> ls = IList.emptyList();
+        for (int i = 0; i < 40000; i++) {
+            ls = ls.plus(i);
+            expected.add(i);
+        }
+        assertThat(ls.size()).isEqualTo(40000);
+        assertThat(ls.toList()).isEqualTo(expected);
+        for (int i = 0; i < 40000; i++) {
+            assertThat(ls.get(i)).isEqualTo(i);
+        }
+        assertThat(ls).isEqualTo(IList.listOf(expected));
+        assertThat(ls.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void set__large_list__does_not_change_original() {
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            expected.add(i);
+        }
+        IList<Integer> original = IList.listOf(expected);
+        IList<Integer> ls = original;
+        for (int i = 0; i < 5000; i += 7) {
+            ls = ls.set(i, -i);
+            expected.set(i, -i);
+        }
+        assertThat(ls.toList()).isEqualTo(expected);
+        assertThat(original.get(7)).isEqualTo(7);
+        assertThat(original.get(4998)).isEqualTo(4998);
+    }
+
+    @Test
+    public void remove__subList__large_list() {
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 3000; i++) {
+            expected.add(i);
+        }
+        IList<Integer> ls = IList.listOf(expected);
+        assertThat(ls.remove(1500).toList()).isEqualTo(concat(expected.subList(0, 1500), expected.subList(1501, 3000)));
+        assertThat(ls.subList(31, 2049).toList()).isEqualTo(expected.subList(31, 2049));
+    }
+
+    @Test
+    public void concat__large_lists() {
+        List<Integer> expected = new ArrayList<Integer>();
+        IList<Integer> ls = IList.emptyList();
+        for (int i = 0; i < 300; i++) {
+            List<Integer> batch = new ArrayList<Integer>();
+            for (int j = 0; j < (i * 37) % 250; j++) {
+                batch.add(expected.size() + j);
+            }
+            ls = ls.concat(IList.listOf(batch));
+            expected.addAll(batch);
+        }
+        assertThat(ls.toList()).isEqualTo(expected);
+        assertThat(ls.plus(-1).get(expected.size())).isEqualTo(-1);
+        assertThat(ls.set(12345, -1).get(12345)).isEqualTo(-1);
+        assertThat(ls.get(12345)).isEqualTo(12345);
+    }
+
+    @Test
+    public void subList__of_concatenated_lists() {
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            expected.add(i);
+        }
+        IList<Integer> ls = IList.listOf(expected.subList(0, 4321)).concat(IList.listOf(expected.subList(4321, 10000)));
+        assertThat(ls.subList(1000, 9000).toList()).isEqualTo(expected.subList(1000, 9000));
+        assertThat(ls.subList(1000, 9000).subList(33, 7000).toList()).isEqualTo(expected.subList(1033, 8000));
+        assertThat(ls.subList(4300, 4350).toList()).isEqualTo(expected.subList(4300, 4350));
+        assertThat(ls.subList(5, 5)).isEqualTo(IList.emptyList());
+    }
+
+    @Test
+    public void subList__views__behave_as_regular_lists() {
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 2000; i++) {
+            expected.add(i);
+        }
+        IList<Integer> view = IList.listOf(expected).subList(40, 1990);
+        List<Integer> expectedView = expected.subList(40, 1990);
+
+        assertThat(view.toList()).isEqualTo(expectedView);
+        assertThat(view.get(0)).isEqualTo(40);
+        assertThat(view.get(1949)).isEqualTo(1989);
+        assertThat(view.hashCode()).isEqualTo(expectedView.hashCode());
+        assertThat(view).isEqualTo(IList.listOf(expectedView));
+        assertThat(view.toArray(new Integer[0])).isEqualTo(expectedView.toArray(new Integer[0]));
+        assertThat(view.plus(-1).toList()).isEqualTo(concat(expectedView, Collections.singletonList(-1)));
+        assertThat(view.set(5, -1).get(5)).isEqualTo(-1);
+        assertThat(view.remove(0).get(0)).isEqualTo(41);
+        assertThat(view.concat(view).toList()).isEqualTo(concat(expectedView, expectedView));
+        assertThat(IList.listOf(-1).concat(view).toList()).isEqualTo(concat(Collections.singletonList(-1), expectedView));
+    }
+
+    @Test
+    public void compact() {
+        IList<String> ls = IList.listOf("a", "b", "c", "d", "e");
+        assertThat(ls.compact()).isSameAs(ls);
+
+        IList<String> view = ls.subList(1, 3);
+        IList<String> compacted = view.compact();
+        assertThat(compacted).isNotSameAs(view).isEqualTo(IList.listOf("b", "c"));
+        assertThat(compacted.compact()).isSameAs(compacted);
+    }
+
+    @Test
+    public void builder() {
+        List<Integer> expected = new ArrayList<Integer>();
+        IList.Builder<Integer> builder = IList.builder(10);
+        for (int i = 0; i < 1000; i++) {
+            builder.add(i);
+            expected.add(i);
+        }
+        IList<Integer> built = builder.build();
+        assertThat(built.toList()).isEqualTo(expected);
+
+        builder.addAll(Arrays.asList(-1, -2));
+        assertThat(builder.size()).isEqualTo(1002);
+        assertThat(builder.build().toList()).isEqualTo(concat(expected, Arrays.asList(-1, -2)));
+        assertThat(built.toList()).isEqualTo(expected);
+        assertThat(IList.builder().build()).isEqualTo(IList.emptyList());
+    }
+
+    @Test
+    public void builder__small_list_does_not_share_array_with_builder() {
+        IList.Builder<String> builder = IList.builder(2);
+        IList<String> built = builder.add("a").add("b").build();
+        builder.add("c");
+        assertThat(built).isEqualTo(IList.listOf("a", "b"));
+        assertThat(builder.build()).isEqualTo(IList.listOf("a", "b", "c"));
+    }
+
+    @Test
+    public void builder__builds_lists_with_whole_leaves_and_keeps_them_after_more_adds() {
+        for (int size : new int[]{31, 32, 33, 64, 65, 1024, 1057}) {
+            List<Integer> expected = new ArrayList<Integer>();
+            IList.Builder<Integer> builder = IList.builder(size);
+            for (int i = 0; i < size; i++) {
+                builder.add(i);
+                expected.add(i);
+            }
+            IList<Integer> built = builder.build();
+            for (int i = 0; i < 40; i++) {
+                builder.add(-i);
+            }
+            IList<Integer> more = builder.build();
+            assertThat(built.toList()).isEqualTo(expected);
+            assertThat(built.hashCode()).isEqualTo(expected.hashCode());
+            assertThat(more.size()).isEqualTo(size + 40);
+            assertThat(more.get(size - 1)).isEqualTo(size - 1);
+            assertThat(more.get(size + 39)).isEqualTo(-39);
+        }
+    }
+
+    @Test
+    public void toBuilder() {
+        assertThat(iList.toBuilder().build()).isSameAs(iList);
+        assertThat(iList.toBuilder().add(w("d")).build()).isEqualTo(IList.listOf(w("a"), w("b"), w("c"), w("d")));
+        assertThat(iList.subList(1, 3).toBuilder().add(w("d")).build()).isEqualTo(IList.listOf(w("b"), w("c"), w("d")));
+        assertThat(iList).isEqualTo(IList.listOf(w("a"), w("b"), w("c")));
+    }
+
+    private static <T> List<T> concat(List<T> l1, List<T> l2) {
+        List<T> ls = new ArrayList<T>(l1);
+        ls.addAll(l2);
+        return ls;
+    }
+
     @Test
     @SuppressWarnings("ResultOfMethodCallIgnored")
     public void subList__rangeCheck_exceptions() {
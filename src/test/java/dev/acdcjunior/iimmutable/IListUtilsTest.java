@@ -18,6 +18,11 @@ public class IListUtilsTest {
         assertThat(IListUtils.toArrayList(((Iterable<Character>) ab))).isEqualTo(ab);
     }
 
+    @Test
+    public void toArrayList_Iterable__IList() {
+        assertThat(IListUtils.toArrayList(IList.listOf('a', 'b'))).isEqualTo(ab);
+    }
+
     @Test
     public void toArrayList_Iterator() {
         assertThat(IListUtils.toArrayList(ab.iterator())).isEqualTo(ab);
@@ -0,0 +1,151 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IBiFunction;
+import dev.acdcjunior.iimmutable.fn.IConsumer;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IPredicate;
+import org.junit.Test;
+import org.junit.function.ThrowingRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.acdcjunior.iimmutable.TestUtils.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IListViewTest {
+
+    private static final IPredicate<Integer> EVEN = new IPredicate<Integer>() {
+        @Override
+        public boolean test(Integer i) {
+            return i % 2 == 0;
+        }
+    };
+
+    private static final IFunction<Integer, Integer> TIMES_TEN = new IFunction<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer i) {
+            return i * 10;
+        }
+    };
+
+    private final IList<Integer> ls = IList.listOf(1, 2, 3, 4, 5, 6);
+
+    @Test
+    public void map__filter__toIList() {
+        IList<Integer> result = ls.view().filter(EVEN).map(TIMES_TEN).toIList();
+        assertThat(result).isEqualTo(IList.listOf(20, 40, 60));
+    }
+
+    @Test
+    public void flatMap__filterNonNull() {
+        IList<String> result = IList.listOf("a", null, "b").view().filterNonNull().flatMap(new IFunction<String, Iterable<? extends String>>() {
+            @Override
+            public Iterable<? extends String> apply(String s) {
+                return IList.listOf(s, s.toUpperCase());
+            }
+        }).toIList();
+        assertThat(result).isEqualTo(IList.listOf("a", "A", "b", "B"));
+    }
+
+    @Test
+    public void take__drop() {
+        assertThat(ls.view().drop(1).take(3).toIList()).isEqualTo(IList.listOf(2, 3, 4));
+        assertThat(ls.view().take(0).toIList()).isEqualTo(IList.<Integer>emptyList());
+        assertThat(ls.view().drop(10).toIList()).isEqualTo(IList.<Integer>emptyList());
+        assertThat(ls.view().take(10).toIList()).isEqualTo(ls);
+    }
+
+    @Test
+    public void take__negative_count() {
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                ls.view().take(-1);
+            }
+        }).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Cannot `take(-1)`");
+    }
+
+    @Test
+    public void operations_are_only_run_by_terminal_operations_and_stop_early() {
+        final List<Integer> seen = new ArrayList<Integer>();
+        IListView<Integer> view = ls.view().peek(new IConsumer<Integer>() {
+            @Override
+            public void accept(Integer i) {
+                seen.add(i);
+            }
+        }).filter(EVEN);
+        assertThat(seen).isEmpty();
+
+        assertThat(view.first()).isEqualTo(IOption.some(2));
+        assertThat(seen).containsExactly(1, 2);
+
+        seen.clear();
+        assertThat(view.any(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i > 3;
+            }
+        })).isTrue();
+        assertThat(seen).containsExactly(1, 2, 3, 4);
+
+        seen.clear();
+        assertThat(view.take(2).toIList()).isEqualTo(IList.listOf(2, 4));
+        assertThat(seen).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    public void find() {
+        assertThat(ls.view().map(TIMES_TEN).find(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i > 30;
+            }
+        })).isEqualTo(IOption.some(40));
+        assertThat(ls.view().filter(EVEN).find(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i == 3;
+            }
+        })).isEqualTo(IOption.<Integer>none());
+    }
+
+    @Test
+    public void reduce__join() {
+        assertThat(ls.view().filter(EVEN).reduce(new IBiFunction<Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer a, Integer b) {
+                return a + b;
+            }
+        })).isEqualTo(IOption.some(12));
+        assertThat(ls.view().take(0).reduce(new IBiFunction<Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer a, Integer b) {
+                return a + b;
+            }
+        })).isEqualTo(IOption.<Integer>none());
+        assertThat(ls.view().reduce(new IList.Reducer<Integer, String>() {
+            @Override
+            public String reduce(String accumulator, Integer next) {
+                return accumulator + next;
+            }
+        }, ">")).isEqualTo(">123456");
+        assertThat(ls.view().drop(3).join(", ")).isEqualTo("4, 5, 6");
+        assertThat(ls.view().join()).isEqualTo("123456");
+    }
+
+    @Test
+    public void toIList__large_list() {
+        List<Integer> is = new ArrayList<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 3000; i++) {
+            is.add(i);
+            if (i % 2 == 0) {
+                expected.add(i * 10);
+            }
+        }
+        assertThat(IList.listOf(is).view().filter(EVEN).map(TIMES_TEN).toIList().toList()).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,64 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.ILongBinaryOperator;
+import dev.acdcjunior.iimmutable.fn.ILongPredicate;
+import dev.acdcjunior.iimmutable.fn.ILongUnaryOperator;
+import dev.acdcjunior.iimmutable.fn.IToLongFunction;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static dev.acdcjunior.iimmutable.ILongList.longListOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class ILongListTest {
+
+    private final ILongList ls = longListOf(5L, 3L, 8L, 1L, 3L);
+
+    @Test
+    public void map__filter__reduce() {
+        ILongList result = ls.map(new ILongUnaryOperator() {
+            @Override
+            public long applyAsLong(long operand) {
+                return operand * 1000000000L;
+            }
+        }).filter(new ILongPredicate() {
+            @Override
+            public boolean test(long input) {
+                return input > 3000000000L;
+            }
+        });
+        assertThat(result).isEqualTo(longListOf(5000000000L, 8000000000L));
+        assertThat(result.reduce(new ILongBinaryOperator() {
+            @Override
+            public long applyAsLong(long left, long right) {
+                return left + right;
+            }
+        })).isEqualTo(IOption.some(13000000000L));
+    }
+
+    @Test
+    public void sum__min__max__indexOf__sorted__subList() {
+        assertThat(ls.sum()).isEqualTo(20L);
+        assertThat(ls.min()).isEqualTo(IOption.some(1L));
+        assertThat(ls.max()).isEqualTo(IOption.some(8L));
+        assertThat(ls.indexOf(3L)).isEqualTo(1);
+        assertThat(ls.contains(7L)).isFalse();
+        assertThat(ls.sorted()).isEqualTo(longListOf(1L, 3L, 3L, 5L, 8L));
+        assertThat(ls.subList(2, 4)).isEqualTo(longListOf(8L, 1L));
+    }
+
+    @Test
+    public void mapToLong__boxed() {
+        ILongList longs = IList.listOf("1", "20000000000").mapToLong(new IToLongFunction<String>() {
+            @Override
+            public long applyAsLong(String input) {
+                return Long.parseLong(input);
+            }
+        });
+        assertThat(longs.boxed()).isEqualTo(IList.listOf(1L, 20000000000L));
+        assertThat(longs.hashCode()).isEqualTo(Arrays.asList(1L, 20000000000L).hashCode());
+    }
+
+}
@@ -87,4 +87,83 @@ public class IMapTest {
         }).isInstanceOf(NullPointerException.class).hasMessage("defaultValueSupplier cannot be null");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void builder() {
+        IMap.Builder<String, Integer> builder = IMap.builder(3);
+        builder.put("k1", 111).put("k2", 222);
+        IMap<String, Integer> built = builder.build();
+        assertThat(built).isEqualTo(IMap.mapOf(pairK1, pairK2));
+
+        builder.put("k3", 333);
+        assertThat(builder.size()).isEqualTo(3);
+        assertThat(builder.build()).isEqualTo(iMap);
+        assertThat(built).isEqualTo(IMap.mapOf(pairK1, pairK2));
+    }
+
+    @Test
+    public void toBuilder() {
+        IMap.Builder<String, Integer> builder = iMap.toBuilder();
+        assertThat(builder.build()).isSameAs(iMap);
+
+        IMap<String, Integer> built = builder.put("k4", 444).build();
+        assertThat(built).isEqualTo(iMap4);
+        assertThat(iMap).isEqualTo(IMap.mapOf(pairK1, pairK2, pairK3));
+        assertThat(builder.putAll(iMap).build()).isSameAs(builder.build());
+    }
+
+    @Test
+    public void hashCode__derived_by_put() {
+        iMap.hashCode();
+        IMap<String, Integer> added = iMap.put("k4", 444);
+        assertThat(added.hashCode()).isEqualTo(added.toMutableMap().hashCode());
+        IMap<String, Integer> replaced = added.put("k1", null);
+        assertThat(replaced.hashCode()).isEqualTo(replaced.toMutableMap().hashCode());
+
+        IMap<String, Integer> built = replaced.toBuilder().put("k1", 1).put("k5", 5).build();
+        assertThat(built.hashCode()).isEqualTo(built.toMutableMap().hashCode());
+    }
+
+    @Test
+    public void put__does_not_hash_entries_unless_hashCode_was_called() {
+        final int[] hashCodeCalls = { 0 };
+        Object counted = new Object() {
+            @Override
+            public int hashCode() {
+                hashCodeCalls[0]++;
+                return 7;
+            }
+        };
+        IMap<String, Object> map = IMap.<String, Object>builder().build();
+        for (int i = 0; i < 100; i++) {
+            map = map.put("k" + i, counted);
+        }
+        assertThat(hashCodeCalls[0]).isEqualTo(0);
+
+        map.hashCode();
+        hashCodeCalls[0] = 0;
+        IMap<String, Object> added = map.put("k100", counted);
+        assertThat(hashCodeCalls[0]).isEqualTo(1);
+        assertThat(added.hashCode()).isEqualTo(added.toMutableMap().hashCode());
+    }
+
+    @Test
+    public void builder__does_not_hash_entries_unless_hashCode_was_called() {
+        final int[] hashCodeCalls = { 0 };
+        Object counted = new Object() {
+            @Override
+            public int hashCode() {
+                hashCodeCalls[0]++;
+                return 7;
+            }
+        };
+        IMap.Builder<String, Object> builder = IMap.builder();
+        for (int i = 0; i < 1000; i++) {
+            builder.put("k" + i, counted);
+        }
+        IMap<String, Object> built = builder.build();
+        built = built.toBuilder().put("k1000", counted).build();
+        assertThat(hashCodeCalls[0]).isEqualTo(0);
+
+        assertThat(built.hashCode()).isEqualTo(built.toMutableMap().hashCode());
+    }
+}
@@ -327,4 +327,54 @@ public class IOptionTest {
         assertThat(aNone.toEither(ifNone)).isEqualTo(IEither.left(leftVal));
     }
 
+    @Test
+    public void sequence() {
+        assertThat(IOption.sequence(IList.listOf(IOption.some(1), IOption.some(2)))).isEqualTo(IOption.some(IList.listOf(1, 2)));
+        assertThat(IOption.sequence(IList.listOf(IOption.some(1), IOption.<Integer>none()))).isEqualTo(IOption.<IList<Integer>>none());
+    }
+
+    @Test
+    public void traverse__stops_at_first_none() {
+        final List<String> seen = new ArrayList<String>();
+        IFunction<String, IOption<Integer>> length = new IFunction<String, IOption<Integer>>() {
+            @Override
+            public IOption<Integer> apply(String s) {
+                seen.add(s);
+                return s.isEmpty() ? IOption.<Integer>none() : IOption.some(s.length());
+            }
+        };
+        assertThat(IOption.traverse(IList.listOf("a", "bc"), length)).isEqualTo(IOption.some(IList.listOf(1, 2)));
+        seen.clear();
+        assertThat(IOption.traverse(IList.listOf("a", "", "bc"), length)).isEqualTo(IOption.<IList<Integer>>none());
+        assertThat(seen).containsExactly("a", "");
+    }
+
+    @Test
+    public void some__shares_instances_for_booleans_and_small_integers() {
+        assertThat(IOption.some(true)).isSameAs(IOption.some(Boolean.TRUE));
+        assertThat(IOption.some(false)).isSameAs(IOption.some(false));
+        assertThat(IOption.some(127)).isSameAs(IOption.some(127));
+        assertThat(IOption.some(-128)).isSameAs(IOption.some(-128));
+        assertThat(IOption.some(128)).isNotSameAs(IOption.some(128)).isEqualTo(IOption.some(128));
+        assertThat(IOption.some(5L)).isNotSameAs(IOption.some(5L));
+        assertThat(IOption.some(42).get()).isEqualTo(42);
+    }
+
+    @Test
+    public void map__filter__return_this_when_value_is_unchanged() {
+        IOption<Stuff> mapped = aSome.map(new IFunction<Stuff, Stuff>() {
+            @Override
+            public Stuff apply(Stuff stuff) {
+                return stuff;
+            }
+        });
+        assertThat(mapped).isSameAs(aSome);
+        assertThat(aSome.filter(new IFunction<Stuff, Boolean>() {
+            @Override
+            public Boolean apply(Stuff stuff) {
+                return true;
+            }
+        })).isSameAs(aSome);
+    }
+
 }
@@ -0,0 +1,105 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.IPredicate;
+import dev.acdcjunior.iimmutable.fn.ISupplier;
+import org.junit.Test;
+import org.junit.function.ThrowingRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.acdcjunior.iimmutable.TestUtils.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class ISequenceTest {
+
+    private static final IFunction<Integer, Integer> PLUS_ONE = new IFunction<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer i) {
+            return i + 1;
+        }
+    };
+
+    private static final IPredicate<Integer> EVEN = new IPredicate<Integer>() {
+        @Override
+        public boolean test(Integer i) {
+            return i % 2 == 0;
+        }
+    };
+
+    private final ISequence<Integer> naturals = ISequence.iterate(0, PLUS_ONE);
+
+    @Test
+    public void iterate__take() {
+        assertThat(naturals.take(5).toIList()).isEqualTo(IList.listOf(0, 1, 2, 3, 4));
+        assertThat(naturals.take(0).toIList()).isEqualTo(IList.<Integer>emptyList());
+    }
+
+    @Test
+    public void generate__only_pulls_what_is_needed() {
+        final int[] calls = { 0 };
+        ISequence<Integer> sequence = ISequence.generate(new ISupplier<Integer>() {
+            @Override
+            public Integer get() {
+                return calls[0]++;
+            }
+        }).filter(EVEN).map(PLUS_ONE);
+        assertThat(calls[0]).isEqualTo(0);
+
+        assertThat(sequence.take(3).toIList()).isEqualTo(IList.listOf(1, 3, 5));
+        assertThat(calls[0]).isEqualTo(5);
+    }
+
+    @Test
+    public void drop__takeWhile() {
+        assertThat(naturals.drop(3).takeWhile(new IPredicate<Integer>() {
+            @Override
+            public boolean test(Integer i) {
+                return i < 7;
+            }
+        }).toIList()).isEqualTo(IList.listOf(3, 4, 5, 6));
+        assertThat(ISequence.sequenceOf(IList.listOf(1, 2)).drop(5).toIList()).isEqualTo(IList.<Integer>emptyList());
+    }
+
+    @Test
+    public void flatMap() {
+        ISequence<Integer> sequence = naturals.flatMap(new IFunction<Integer, Iterable<Integer>>() {
+            @Override
+            public Iterable<Integer> apply(Integer i) {
+                return i % 3 == 0 ? IList.<Integer>emptyList() : IList.listOf(i, -i);
+            }
+        });
+        assertThat(sequence.take(6).toIList()).isEqualTo(IList.listOf(1, -1, 2, -2, 4, -4));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void chunked() {
+        List<IList<Integer>> chunks = new ArrayList<IList<Integer>>();
+        for (IList<Integer> chunk : naturals.take(7).chunked(3)) {
+            chunks.add(chunk);
+        }
+        assertThat(chunks).containsExactly(IList.listOf(0, 1, 2), IList.listOf(3, 4, 5), IList.listOf(6));
+        assertThat(naturals.chunked(2000).take(2).toIList().get(1).get(1999)).isEqualTo(3999);
+    }
+
+    @Test
+    public void sequences_can_be_iterated_again() {
+        ISequence<Integer> sequence = ISequence.sequenceOf(IList.listOf(1, 2, 3, 4)).filter(EVEN);
+        assertThat(sequence.toIList()).isEqualTo(IList.listOf(2, 4));
+        assertThat(sequence.toIList()).isEqualTo(IList.listOf(2, 4));
+    }
+
+    @Test
+    public void chunked__non_positive_size() {
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                naturals.chunked(0);
+            }
+        }).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Cannot `chunked(0)`");
+    }
+
+}
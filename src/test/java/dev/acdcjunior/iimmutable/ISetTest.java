@@ -41,4 +41,49 @@ public class ISetTest {
         Assertions.assertThat(mutableSet).isEqualTo(ISet.setOf("a", "b", "c", "new").toSet());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void builder() {
+        ISet.Builder<String> builder = ISet.builder();
+        ISet<String> built = builder.add("a").addAll(listOf("b", "a")).build();
+        Assertions.assertThat(built).isEqualTo(ISet.setOf("a", "b"));
+        Assertions.assertThat(builder.add("c").size()).isEqualTo(3);
+        Assertions.assertThat(builder.build()).isEqualTo(iSet);
+        Assertions.assertThat(built).isEqualTo(ISet.setOf("a", "b"));
+    }
+
+    @Test
+    public void toBuilder() {
+        Assertions.assertThat(iSet.toBuilder().build()).isSameAs(iSet);
+        Assertions.assertThat(iSet.toBuilder().add("d").build()).isEqualTo(ISet.setOf("a", "b", "c", "d"));
+        Assertions.assertThat(iSet).isEqualTo(ISet.setOf("a", "b", "c"));
+    }
+
+    @Test
+    public void hashCode__derived_by_builder() {
+        ISet<String> built = ISet.<String>builder().add("a").add("b").add("a").add(null).build();
+        Assertions.assertThat(built.hashCode()).isEqualTo(built.toMutableSet().hashCode());
+        ISet<String> more = built.toBuilder().add("c").add("b").build();
+        Assertions.assertThat(more.hashCode()).isEqualTo(more.toMutableSet().hashCode());
+    }
+
+    @Test
+    public void builder__does_not_hash_elements_unless_hashCode_was_called() {
+        final int[] hashCodeCalls = { 0 };
+        ISet.Builder<Object> builder = ISet.builder();
+        for (int i = 0; i < 1000; i++) {
+            final int hash = i;
+            builder.add(new Object() {
+                @Override
+                public int hashCode() {
+                    hashCodeCalls[0]++;
+                    return hash;
+                }
+            });
+        }
+        ISet<Object> built = builder.build();
+        // only the ones the backing hash set makes to place each element
+        Assertions.assertThat(hashCodeCalls[0]).isEqualTo(1000);
+
+        Assertions.assertThat(built.hashCode()).isEqualTo(built.toMutableSet().hashCode());
+    }
+}
@@ -0,0 +1,136 @@
+package dev.acdcjunior.iimmutable;
+
+import dev.acdcjunior.iimmutable.fn.IBiFunction;
+import dev.acdcjunior.iimmutable.fn.IFunction;
+import dev.acdcjunior.iimmutable.fn.ITriFunction;
+import dev.acdcjunior.iimmutable.tuple.IPair;
+import org.junit.Test;
+import org.junit.function.ThrowingRunnable;
+
+import static dev.acdcjunior.iimmutable.TestUtils.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class IValidatedTest {
+
+    private static final IFunction<String, IValidated<String, Integer>> PARSE = new IFunction<String, IValidated<String, Integer>>() {
+        @Override
+        public IValidated<String, Integer> apply(String s) {
+            try {
+                return IValidated.valid(Integer.parseInt(s));
+            } catch (NumberFormatException e) {
+                return IValidated.invalid("not a number: " + s);
+            }
+        }
+    };
+
+    private final IValidated<String, Integer> one = IValidated.valid(1);
+    private final IValidated<String, Integer> two = IValidated.valid(2);
+    private final IValidated<String, Integer> errorA = IValidated.invalid("a");
+    private final IValidated<String, Integer> errorB = IValidated.invalid("b");
+
+    @Test
+    public void valid__invalid() {
+        assertThat(one.isValid()).isTrue();
+        assertThat(one.get()).isEqualTo(1);
+        assertThat(one.errors()).isEqualTo(IList.<String>emptyList());
+        assertThat(errorA.isInvalid()).isTrue();
+        assertThat(errorA.errors()).isEqualTo(IList.listOf("a"));
+        assertThat(one.toString()).isEqualTo("Valid(1)");
+        assertThat(one.toEither()).isEqualTo(IEither.<IList<String>, Integer>right(1));
+        assertThat(errorA.toEither()).isEqualTo(IEither.<IList<String>, Integer>left(IList.listOf("a")));
+    }
+
+    @Test
+    public void invalid__requires_errors() {
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                IValidated.invalid(IList.<String>emptyList());
+            }
+        }).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(new ThrowingRunnable() {
+            @Override
+            public void run() {
+                errorA.get();
+            }
+        }).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void zip__accumulates_errors() {
+        assertThat(one.zip(two)).isEqualTo(IValidated.<String, IPair<Integer, Integer>>valid(IPair.pairOf(1, 2)));
+        assertThat(errorA.zip(two)).isEqualTo(IValidated.<String, IPair<Integer, Integer>>invalid("a"));
+        assertThat(errorA.zip(errorB).errors()).isEqualTo(IList.listOf("a", "b"));
+    }
+
+    @Test
+    public void map2__map3() {
+        IBiFunction<Integer, Integer, Integer> sum = new IBiFunction<Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer a, Integer b) {
+                return a + b;
+            }
+        };
+        ITriFunction<Integer, Integer, Integer, Integer> sum3 = new ITriFunction<Integer, Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer a, Integer b, Integer c) {
+                return a + b + c;
+            }
+        };
+        assertThat(IValidated.map2(one, two, sum)).isEqualTo(IValidated.<String, Integer>valid(3));
+        assertThat(IValidated.map2(errorA, two, sum).errors()).isEqualTo(IList.listOf("a"));
+        assertThat(IValidated.map3(one, two, two, sum3)).isEqualTo(IValidated.<String, Integer>valid(5));
+        assertThat(IValidated.map3(errorA, two, errorB, sum3).errors()).isEqualTo(IList.listOf("a", "b"));
+    }
+
+    @Test
+    public void map__mapErrors__andThen() {
+        IFunction<Integer, Integer> timesTen = new IFunction<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer i) {
+                return i * 10;
+            }
+        };
+        assertThat(two.map(timesTen)).isEqualTo(IValidated.<String, Integer>valid(20));
+        assertThat(errorA.map(timesTen)).isSameAs(errorA);
+        assertThat(errorA.mapErrors(new IFunction<String, String>() {
+            @Override
+            public String apply(String e) {
+                return e.toUpperCase();
+            }
+        }).errors()).isEqualTo(IList.listOf("A"));
+        assertThat(IValidated.<String, String>valid("x").andThen(PARSE)).isEqualTo(IValidated.<String, Integer>invalid("not a number: x"));
+    }
+
+    @Test
+    public void validateAll() {
+        assertThat(IValidated.validateAll(IList.listOf("1", "2", "3"), PARSE))
+                .isEqualTo(IValidated.<String, IList<Integer>>valid(IList.listOf(1, 2, 3)));
+        assertThat(IValidated.validateAll(IList.listOf("1", "x", "3", "y"), PARSE).errors())
+                .isEqualTo(IList.listOf("not a number: x", "not a number: y"));
+        assertThat(IValidated.validateAll(IList.<String>emptyList(), PARSE))
+                .isEqualTo(IValidated.<String, IList<Integer>>valid(IList.<Integer>emptyList()));
+    }
+
+    @Test
+    public void validateAll__large_list() {
+        IList.Builder<String> numbers = IList.builder();
+        IList.Builder<Integer> expected = IList.builder();
+        IList.Builder<String> expectedErrors = IList.builder();
+        for (int i = 0; i < 1100; i++) {
+            numbers.add(String.valueOf(i));
+            expected.add(i);
+            expectedErrors.add("not a number: x" + i);
+        }
+        assertThat(IValidated.validateAll(numbers.build(), PARSE).get()).isEqualTo(expected.build());
+        IList<String> notNumbers = numbers.build().map(new IFunction<String, String>() {
+            @Override
+            public String apply(String s) {
+                return "x" + s;
+            }
+        });
+        assertThat(IValidated.validateAll(notNumbers, PARSE).errors()).isEqualTo(expectedErrors.build());
+    }
+
+}